@@ -0,0 +1,12 @@
+package task.system.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExecutorConfig {
+    @Bean
+    public ExecutorThreadFactory executorThreadFactory() {
+        return ExecutorThreadFactory.platform();
+    }
+}
@@ -0,0 +1,25 @@
+package task.system.config;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the threads of the executors that make blocking Dropbox and Telegram calls.
+ * The default bean creates platform threads; the jdk21 build replaces it with virtual
+ * threads when threads.virtual.enabled is set.
+ */
+@FunctionalInterface
+public interface ExecutorThreadFactory {
+    ThreadFactory create(String namePrefix);
+
+    static ExecutorThreadFactory platform() {
+        return namePrefix -> {
+            AtomicInteger threadNumber = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        };
+    }
+}
@@ -1,14 +1,36 @@
 package task.system.config;
 
+import java.util.List;
 import java.util.Properties;
 import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.env.Environment;
+import org.springframework.orm.hibernate5.HibernateTransactionManager;
 import org.springframework.orm.hibernate5.LocalSessionFactoryBean;
 
 @Configuration
 public class HibernateConfig {
+    private static final List<String> TUNING_PROPERTIES = List.of(
+            "hibernate.jdbc.batch_size",
+            "hibernate.jdbc.batch_versioned_data",
+            "hibernate.jdbc.fetch_size",
+            "hibernate.order_inserts",
+            "hibernate.order_updates",
+            "hibernate.query.plan_cache_max_size",
+            "hibernate.query.in_clause_parameter_padding",
+            "hibernate.connection.provider_disables_autocommit",
+            "hibernate.id.allocation_size",
+            "hibernate.generate_statistics",
+            "hibernate.cache.use_second_level_cache",
+            "hibernate.cache.use_query_cache",
+            "hibernate.cache.region.factory_class",
+            "hibernate.javax.cache.provider",
+            "hibernate.javax.cache.missing_cache_strategy"
+    );
+
     private final Environment environment;
 
     public HibernateConfig(Environment environment) {
@@ -24,6 +46,12 @@ public class HibernateConfig {
         return sessionFactory;
     }
 
+    @Bean
+    @Primary
+    public HibernateTransactionManager transactionManager(SessionFactory sessionFactory) {
+        return new HibernateTransactionManager(sessionFactory);
+    }
+
     @Bean
     public Properties hibernateProperties() {
         Properties hibernateProperties = new Properties();
@@ -34,6 +62,15 @@ public class HibernateConfig {
         hibernateProperties.setProperty(
                 "hibernate.show_sql", environment.getProperty("hibernate.show_sql")
         );
+
+        for (String property : TUNING_PROPERTIES) {
+            String value = environment.getProperty(property);
+
+            if (value != null) {
+                hibernateProperties.setProperty(property, value);
+            }
+        }
+
         return hibernateProperties;
     }
 }
@@ -2,7 +2,9 @@ package task.system.config;
 
 // import static org.springframework.security.config.Customizer.withDefaults;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,13 +25,16 @@ import task.system.security.JwtAuthenticationFilter;
 public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final int managementPort;
 
     @Autowired
     public SecurityConfig(UserDetailsService userDetailsService,
-                          JwtAuthenticationFilter jwtAuthenticationFilter
+                          JwtAuthenticationFilter jwtAuthenticationFilter,
+                          @Value("${management.server.port:-1}") int managementPort
     ) {
         this.userDetailsService = userDetailsService;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -56,6 +61,8 @@ public class SecurityConfig {
                                         "/swagger-ui/**",
                                         "/v3/api-docs/**")
                                 .permitAll()
+                                .requestMatchers(this::isInternalMonitoringRequest)
+                                .permitAll()
                                 .anyRequest()
                                 .authenticated()
                 )
@@ -69,4 +76,14 @@ public class SecurityConfig {
                 .userDetailsService(userDetailsService)
                 .build();
     }
+
+    /**
+     * Health and scrape endpoints are open only on the management port, which listens on an
+     * internal address. On the application port they stay behind authentication.
+     */
+    private boolean isInternalMonitoringRequest(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return request.getLocalPort() == managementPort
+                && (path.startsWith("/actuator/health") || path.equals("/actuator/prometheus"));
+    }
 }
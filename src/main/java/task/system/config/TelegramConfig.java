@@ -1,6 +1,7 @@
 package task.system.config;
 
 import javax.annotation.PostConstruct;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
@@ -9,6 +10,7 @@ import task.system.exception.DataProcessingException;
 import task.system.telegram.TaskSystemBot;
 
 @Configuration
+@ConditionalOnProperty(name = "telegram.bot.enabled", havingValue = "true", matchIfMissing = true)
 public class TelegramConfig {
     private final TaskSystemBot taskSystemBot;
 
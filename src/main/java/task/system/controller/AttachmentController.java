@@ -2,7 +2,7 @@ package task.system.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.core.io.InputStreamResource;
+import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import task.system.dto.attachment.AttachmentUploadProgressDto;
 import task.system.model.Attachment;
 import task.system.service.attachment.AttachmentService;
 
@@ -27,7 +29,7 @@ public class AttachmentController {
     }
 
     @PostMapping
-    @Operation(summary = "Upload file", description = "Upload file to Dropbox")
+    @Operation(summary = "Upload file", description = "Upload file to attachment storage")
     @ResponseStatus(HttpStatus.CREATED)
     public Attachment upload(
             @RequestParam(name = "file") MultipartFile file,
@@ -36,19 +38,43 @@ public class AttachmentController {
         return attachmentService.upload(file, taskId);
     }
 
+    @PostMapping("/task/{taskId}")
+    @Operation(summary = "Upload several files",
+            description = "Upload several files to task concurrently, progress of the upload "
+                    + "can be checked by uploadId"
+    )
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<Attachment> uploadAll(
+            @PathVariable Long taskId,
+            @RequestParam(name = "files") List<MultipartFile> files,
+            @RequestParam(name = "uploadId", required = false) String uploadId
+    ) {
+        return attachmentService.uploadAll(files, taskId, uploadId);
+    }
+
+    @GetMapping("/uploads/{uploadId}")
+    @Operation(summary = "Get upload progress",
+            description = "Get per file progress of upload in progress started by the "
+                    + "authenticated user, files are identified by their position in the request"
+    )
+    @ResponseStatus(HttpStatus.OK)
+    public List<AttachmentUploadProgressDto> getUploadProgress(@PathVariable String uploadId) {
+        return attachmentService.getUploadProgress(uploadId);
+    }
+
     @GetMapping("/{attachmentId}")
-    @Operation(summary = "Download file", description = "Download file from Dropbox")
+    @Operation(summary = "Download file", description = "Download file from attachment storage")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<InputStreamResource> download(@PathVariable Long attachmentId) {
+    public ResponseEntity<StreamingResponseBody> download(@PathVariable Long attachmentId) {
         return attachmentService.download(attachmentId);
     }
 
     @GetMapping(value = "/task/{id}")
     @Operation(summary = "Download all file",
-            description = "Download all file from Dropbox from task"
+            description = "Download all file from attachment storage from task"
     )
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<InputStreamResource> downloadAllByTaskId(@PathVariable Long id) {
+    public ResponseEntity<StreamingResponseBody> downloadAllByTaskId(@PathVariable Long id) {
         return attachmentService.downloadAllByTaskId(id);
     }
 
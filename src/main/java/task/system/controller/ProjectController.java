@@ -12,12 +12,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import task.system.dto.project.ProjectChangesResponseDto;
 import task.system.dto.project.ProjectDetailsResponseDto;
 import task.system.dto.project.ProjectLowInfoResponse;
+import task.system.dto.project.ProjectMembersRequestDto;
+import task.system.dto.project.ProjectMembersResponseDto;
 import task.system.dto.project.ProjectRequestDto;
 import task.system.dto.project.ProjectUpdateRequestDto;
+import task.system.service.project.ProjectChangeService;
 import task.system.service.project.ProjectService;
 
 @Tag(name = "Project management", description = "Endpoints for projects action")
@@ -25,9 +30,13 @@ import task.system.service.project.ProjectService;
 @RequestMapping(value = "/projects")
 public class ProjectController {
     private final ProjectService projectService;
+    private final ProjectChangeService projectChangeService;
 
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(
+            ProjectService projectService, ProjectChangeService projectChangeService
+    ) {
         this.projectService = projectService;
+        this.projectChangeService = projectChangeService;
     }
 
     @PostMapping
@@ -51,6 +60,16 @@ public class ProjectController {
         return projectService.getById(id);
     }
 
+    @GetMapping(value = "/{id}/changes")
+    @Operation(summary = "Get changes", description = "Get task, comment and label changes "
+            + "of project after a sequence number, to sync clients incrementally")
+    @ResponseStatus(HttpStatus.OK)
+    public ProjectChangesResponseDto getChanges(
+            @PathVariable Long id, @RequestParam(name = "since", defaultValue = "0") Long since
+    ) {
+        return projectChangeService.getChanges(id, since);
+    }
+
     @PutMapping(value = "/{id}")
     @Operation(summary = "Update by id", description = "Update project by id")
     @ResponseStatus(HttpStatus.OK)
@@ -60,6 +79,25 @@ public class ProjectController {
         return projectService.updateById(id, request);
     }
 
+    @PostMapping(value = "/{id}/members")
+    @Operation(summary = "Add members", description = "Add users and administrators to project")
+    @ResponseStatus(HttpStatus.OK)
+    public ProjectMembersResponseDto addMembers(
+            @PathVariable Long id, @RequestBody @Valid ProjectMembersRequestDto request
+    ) {
+        return projectService.addMembers(id, request);
+    }
+
+    @DeleteMapping(value = "/{id}/members")
+    @Operation(summary = "Remove members",
+            description = "Remove users and administrators from project")
+    @ResponseStatus(HttpStatus.OK)
+    public ProjectMembersResponseDto removeMembers(
+            @PathVariable Long id, @RequestBody @Valid ProjectMembersRequestDto request
+    ) {
+        return projectService.removeMembers(id, request);
+    }
+
     @DeleteMapping(value = "/{id}")
     @Operation(summary = "Delete by id", description = "Delete project by id")
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -3,10 +3,10 @@ package task.system.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.util.List;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -14,9 +14,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import task.system.dto.task.TaskBatchCreateRequestDto;
+import task.system.dto.task.TaskBatchDeleteRequestDto;
+import task.system.dto.task.TaskBatchResponseDto;
+import task.system.dto.task.TaskBatchUpdateRequestDto;
 import task.system.dto.task.TaskCreateRequestDto;
 import task.system.dto.task.TaskFullDetailsDto;
-import task.system.dto.task.TaskLowDetailsDto;
+import task.system.dto.task.TaskPageResponseDto;
+import task.system.dto.task.TaskSearchParameters;
 import task.system.dto.task.TaskUpdateRequestDto;
 import task.system.service.task.TaskService;
 
@@ -37,11 +42,42 @@ public class TaskController {
         return taskService.create(request);
     }
 
+    @PostMapping(value = "/batch")
+    @Operation(summary = "Create batch", description = "Create several tasks in one request")
+    @ResponseStatus(HttpStatus.CREATED)
+    public TaskBatchResponseDto createAll(
+            @Valid @RequestBody TaskBatchCreateRequestDto request
+    ) {
+        return taskService.createAll(request);
+    }
+
+    @PatchMapping(value = "/batch")
+    @Operation(summary = "Update batch", description = "Update several tasks in one request, "
+            + "only the fields present in each item are changed and every id may appear once")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBatchResponseDto updateAll(
+            @Valid @RequestBody TaskBatchUpdateRequestDto request
+    ) {
+        return taskService.updateAll(request);
+    }
+
+    @DeleteMapping(value = "/batch")
+    @Operation(summary = "Delete batch", description = "Delete several tasks in one request")
+    @ResponseStatus(HttpStatus.OK)
+    public TaskBatchResponseDto deleteAll(
+            @Valid @RequestBody TaskBatchDeleteRequestDto request
+    ) {
+        return taskService.deleteAll(request);
+    }
+
     @GetMapping(value = "/project/{projectId}")
-    @Operation(summary = "Get all", description = "Get all tasks by project id")
+    @Operation(summary = "Get all", description = "Get a page of tasks by project id, "
+            + "filtered by status, priority, assignee and due date range")
     @ResponseStatus(HttpStatus.OK)
-    public List<TaskLowDetailsDto> getAllByProjectId(@PathVariable Long projectId) {
-        return taskService.getAll(projectId);
+    public TaskPageResponseDto getAllByProjectId(
+            @PathVariable Long projectId, @Valid TaskSearchParameters parameters
+    ) {
+        return taskService.getAll(projectId, parameters);
     }
 
     @GetMapping(value = "/{id}")
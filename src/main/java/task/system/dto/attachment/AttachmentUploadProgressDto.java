@@ -0,0 +1,13 @@
+package task.system.dto.attachment;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class AttachmentUploadProgressDto {
+    private int index;
+    private String filename;
+    private long uploadedBytes;
+    private long totalBytes;
+}
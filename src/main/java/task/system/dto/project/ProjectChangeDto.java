@@ -0,0 +1,16 @@
+package task.system.dto.project;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import task.system.model.ProjectChange;
+
+@Getter
+@Setter
+public class ProjectChangeDto {
+    private Long sequence;
+    private ProjectChange.EntityType entityType;
+    private Long entityId;
+    private ProjectChange.Operation operation;
+    private LocalDateTime timestamp;
+}
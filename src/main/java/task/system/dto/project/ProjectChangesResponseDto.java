@@ -0,0 +1,14 @@
+package task.system.dto.project;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ProjectChangesResponseDto {
+    private List<ProjectChangeDto> changes;
+    private Long next;
+    private boolean hasMore;
+    private boolean resyncRequired;
+}
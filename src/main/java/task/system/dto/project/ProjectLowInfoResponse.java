@@ -1,10 +1,14 @@
 package task.system.dto.project;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class ProjectLowInfoResponse {
     private Long id;
     private String name;
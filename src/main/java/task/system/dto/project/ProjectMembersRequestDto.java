@@ -0,0 +1,21 @@
+package task.system.dto.project;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ProjectMembersRequestDto {
+    @NotNull
+    @Size(max = 5000)
+    private Set<@NotNull @Positive Long> users = new HashSet<>();
+
+    @NotNull
+    @Size(max = 5000)
+    private Set<@NotNull @Positive Long> administrators = new HashSet<>();
+}
@@ -0,0 +1,12 @@
+package task.system.dto.project;
+
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ProjectMembersResponseDto {
+    private Set<Long> userIds;
+    private Set<Long> administratorIds;
+}
@@ -0,0 +1,16 @@
+package task.system.dto.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBatchCreateRequestDto {
+    @NotEmpty
+    @Size(max = 5000)
+    private List<@Valid TaskCreateRequestDto> tasks;
+}
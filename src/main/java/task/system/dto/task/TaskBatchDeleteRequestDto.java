@@ -0,0 +1,17 @@
+package task.system.dto.task;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBatchDeleteRequestDto {
+    @NotEmpty
+    @Size(max = 5000)
+    private Set<@NotNull @Positive Long> ids;
+}
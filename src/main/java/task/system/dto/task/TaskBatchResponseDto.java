@@ -0,0 +1,12 @@
+package task.system.dto.task;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBatchResponseDto {
+    private int rowCount;
+    private List<Long> taskIds;
+}
@@ -0,0 +1,14 @@
+package task.system.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBatchUpdateItemDto extends TaskUpdateRequestDto {
+    @NotNull
+    @Positive
+    private Long id;
+}
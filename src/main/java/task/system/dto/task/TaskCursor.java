@@ -0,0 +1,6 @@
+package task.system.dto.task;
+
+import java.time.LocalDate;
+
+public record TaskCursor(LocalDate dueDate, Long id) {
+}
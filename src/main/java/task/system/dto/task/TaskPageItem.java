@@ -0,0 +1,6 @@
+package task.system.dto.task;
+
+import java.time.LocalDate;
+
+public record TaskPageItem(Long id, String name, String description, LocalDate dueDate) {
+}
@@ -0,0 +1,12 @@
+package task.system.dto.task;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskPageResponseDto {
+    private List<TaskLowDetailsDto> tasks;
+    private String nextCursor;
+}
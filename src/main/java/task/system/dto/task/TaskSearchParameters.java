@@ -0,0 +1,33 @@
+package task.system.dto.task;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+import task.system.model.Task;
+
+@Getter
+@Setter
+public class TaskSearchParameters {
+    private Task.Status status;
+
+    private Task.Priority priority;
+
+    @Positive
+    private Long assigneeId;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dueDateFrom;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dueDateTo;
+
+    private String cursor;
+
+    @Min(1)
+    @Max(500)
+    private int size = 50;
+}
@@ -0,0 +1,13 @@
+package task.system.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import task.system.config.MapperConfig;
+import task.system.dto.project.ProjectChangeDto;
+import task.system.model.ProjectChange;
+
+@Mapper(config = MapperConfig.class)
+public interface ProjectChangeMapper {
+    @Mapping(target = "sequence", source = "id")
+    ProjectChangeDto toDto(ProjectChange change);
+}
@@ -7,7 +7,6 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import task.system.config.MapperConfig;
 import task.system.dto.project.ProjectDetailsResponseDto;
-import task.system.dto.project.ProjectLowInfoResponse;
 import task.system.dto.project.ProjectRequestDto;
 import task.system.model.Project;
 import task.system.model.User;
@@ -28,7 +27,13 @@ public interface ProjectMapper {
     @Mapping(target = "mainUser", source = "savedProject.mainUser.id")
     ProjectDetailsResponseDto toDto(Project savedProject);
 
-    ProjectLowInfoResponse toLowInfoDto(Project project);
+    @Mapping(target = "id", source = "project.id")
+    @Mapping(target = "userIds", source = "userIds")
+    @Mapping(target = "administratorIds", source = "administratorIds")
+    @Mapping(target = "mainUser", source = "project.mainUser.id")
+    ProjectDetailsResponseDto toDto(
+            Project project, Set<Long> userIds, Set<Long> administratorIds
+    );
 
     @Named("setUserIds")
     default Set<Long> setUserIds(Set<User> users) {
@@ -6,6 +6,7 @@ import task.system.config.MapperConfig;
 import task.system.dto.task.TaskCreateRequestDto;
 import task.system.dto.task.TaskFullDetailsDto;
 import task.system.dto.task.TaskLowDetailsDto;
+import task.system.dto.task.TaskPageItem;
 import task.system.model.Task;
 
 @Mapper(config = MapperConfig.class)
@@ -16,5 +17,5 @@ public interface TaskMapper {
 
     TaskFullDetailsDto toFullDetailsDto(Task task);
 
-    TaskLowDetailsDto toLowDetailsDto(Task task);
+    TaskLowDetailsDto toLowDetailsDto(TaskPageItem task);
 }
@@ -0,0 +1,54 @@
+package task.system.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class MethodTimingAspect {
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * task.system.repository..*RepositoryImpl.*(..))")
+    public Object timeRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("repository.method", "query", joinPoint);
+    }
+
+    @Around("execution(public * task.system.service..*ServiceImpl.*(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("service.method", "method", joinPoint);
+    }
+
+    private Object time(String name, String tag, ProceedingJoinPoint joinPoint)
+            throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag(tag, getMethodName(joinPoint.getSignature()))
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String getMethodName(Signature signature) {
+        String type = signature.getDeclaringType().getSimpleName();
+        return type.substring(0, type.length() - "Impl".length()) + "." + signature.getName();
+    }
+}
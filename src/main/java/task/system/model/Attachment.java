@@ -1,14 +1,15 @@
 package task.system.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Getter
@@ -16,14 +17,16 @@ import lombok.Setter;
 @Table(name = "attachments")
 public class Attachment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "attachments_id_seq")
+    @GenericGenerator(name = "attachments_id_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @Column(name = "task_id", nullable = false)
     private Long taskId;
 
-    @Column(name = "dropbox_file_id", nullable = false, unique = true)
-    private String dropboxFileId;
+    @JsonProperty("dropboxFileId")
+    @Column(name = "storage_key", nullable = false)
+    private String storageKey;
 
     @Column(name = "filename", nullable = false)
     private String filename;
@@ -3,12 +3,12 @@ package task.system.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 
 @Entity
 @Getter
@@ -16,7 +16,8 @@ import lombok.Setter;
 @Table(name = "comments")
 public class Comment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "comments_id_seq")
+    @GenericGenerator(name = "comments_id_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @Column(name = "task_id", nullable = false)
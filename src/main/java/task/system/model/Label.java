@@ -6,22 +6,26 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
 import task.system.exception.DataProcessingException;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "labels")
 @Getter
 @Setter
 @ToString
 @Table(name = "labels")
 public class Label {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "labels_id_seq")
+    @GenericGenerator(name = "labels_id_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @Column(name = "name")
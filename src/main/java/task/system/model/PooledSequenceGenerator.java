@@ -0,0 +1,35 @@
+package task.system.model;
+
+import java.util.Properties;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Draws ids from the {@code <table>_<column>_seq} sequence of the entity table with the
+ * pooled-lo optimizer: one nextval reserves a block of hibernate.id.allocation_size ids, so
+ * inserts no longer have to read back a generated key and can be sent as JDBC batches.
+ * The increment of the database sequence must match the allocation size.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+    public static final String ALLOCATION_SIZE = "hibernate.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry)
+            throws MappingException {
+        Integer allocationSize = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.putIfAbsent(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        parameters.putIfAbsent(SEQUENCE_PARAM,
+                parameters.getProperty(PersistentIdentifierGenerator.TABLE) + "_"
+                        + parameters.getProperty(PersistentIdentifierGenerator.PK) + "_seq");
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -7,7 +7,6 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
@@ -19,15 +18,20 @@ import java.util.HashSet;
 import java.util.Set;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
 import task.system.exception.DataProcessingException;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @Getter
 @Setter
 @Table(name = "projects")
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "projects_id_seq")
+    @GenericGenerator(name = "projects_id_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @Column(name = "name", nullable = false, unique = true)
@@ -40,12 +44,14 @@ public class Project {
     @JoinColumn(name = "main_user_id")
     private User mainUser;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects.administrators")
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "projects_administrators",
             joinColumns = @JoinColumn(name = "project_id"),
             inverseJoinColumns = @JoinColumn(name = "user_id"))
     private Set<User> administrators = new HashSet<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects.users")
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "projects_users",
             joinColumns = @JoinColumn(name = "project_id"),
@@ -0,0 +1,64 @@
+package task.system.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "project_changes")
+public class ProjectChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "entity_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "operation", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Operation operation;
+
+    @Column(name = "timestamp", nullable = false)
+    private LocalDateTime timestamp;
+
+    public static ProjectChange of(
+            Long projectId, EntityType entityType, Long entityId, Operation operation
+    ) {
+        ProjectChange change = new ProjectChange();
+        change.setProjectId(projectId);
+        change.setEntityType(entityType);
+        change.setEntityId(entityId);
+        change.setOperation(operation);
+        change.setTimestamp(LocalDateTime.now());
+        return change;
+    }
+
+    public enum EntityType {
+        TASK,
+        COMMENT,
+        LABEL
+    }
+
+    public enum Operation {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+}
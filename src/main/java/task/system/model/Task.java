@@ -6,12 +6,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 import task.system.exception.DataProcessingException;
 
 @Entity
@@ -20,7 +20,8 @@ import task.system.exception.DataProcessingException;
 @Table(name = "tasks")
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "tasks_id_seq")
+    @GenericGenerator(name = "tasks_id_seq", type = PooledSequenceGenerator.class)
     private Long id;
 
     @Column(name = "name", nullable = false)
@@ -7,6 +7,8 @@ import task.system.model.Attachment;
 public interface AttachmentRepository {
     Attachment save(Attachment attachment);
 
+    List<Attachment> saveAll(List<Attachment> attachments);
+
     Optional<Attachment> findByFileName(String filename);
 
     Optional<Attachment> findById(Long id);
@@ -4,14 +4,15 @@ import java.util.List;
 import java.util.Optional;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
 import task.system.model.Attachment;
 
 @Repository
+@Transactional
 public class AttachmentRepositoryImpl implements AttachmentRepository {
     private final SessionFactory sessionFactory;
 
@@ -21,70 +22,61 @@ public class AttachmentRepositoryImpl implements AttachmentRepository {
 
     @Override
     public Attachment save(Attachment attachment) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             session.persist(attachment);
-            transaction.commit();
             return attachment;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't insert attachment: " + attachment, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
+        }
+    }
+
+    @Override
+    public List<Attachment> saveAll(List<Attachment> attachments) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+
+            for (Attachment attachment : attachments) {
+                session.persist(attachment);
             }
+
+            return attachments;
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't insert attachments: " + attachments, e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Attachment> findByFileName(String filename) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<Attachment> query = session.createQuery(
                     "FROM Attachment a WHERE a.filename = :name", Attachment.class
             );
             return query.setParameter("name", filename).uniqueResultOptional();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find attachment by filename: " + filename);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Attachment> findById(Long id) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Attachment attachment = session.find(Attachment.class, id);
             return Optional.ofNullable(attachment);
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find attachment by id: " + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Attachment> findAllByTaskId(Long id) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             List<Attachment> attachments = session.createQuery(
                     "FROM Attachment a WHERE a.taskId = :taskId", Attachment.class)
                     .setParameter("taskId", id)
@@ -92,10 +84,6 @@ public class AttachmentRepositoryImpl implements AttachmentRepository {
             return attachments;
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find attachments by task id: " + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 }
@@ -4,51 +4,46 @@ import java.util.List;
 import java.util.Optional;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
 import task.system.model.Comment;
+import task.system.model.ProjectChange;
+import task.system.model.Task;
+import task.system.repository.project.ProjectChangeRepository;
 
 @Repository
+@Transactional
 public class CommentRepositoryImpl implements CommentRepository {
     private final SessionFactory sessionFactory;
+    private final ProjectChangeRepository projectChangeRepository;
 
-    public CommentRepositoryImpl(SessionFactory sessionFactory) {
+    public CommentRepositoryImpl(
+            SessionFactory sessionFactory, ProjectChangeRepository projectChangeRepository
+    ) {
         this.sessionFactory = sessionFactory;
+        this.projectChangeRepository = projectChangeRepository;
     }
 
     @Override
     public Comment save(Comment comment) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             session.persist(comment);
-            transaction.commit();
+            saveChange(session, comment, ProjectChange.Operation.CREATE);
             return comment;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't insert comment: " + comment + " to database");
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Comment> findAllByTaskId(Long taskId) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<Comment> findQuery = session.createQuery(
                     "FROM Comment c "
                             + "WHERE c.taskId = :taskId AND c.isDeleted = FALSE", Comment.class)
@@ -56,62 +51,37 @@ public class CommentRepositoryImpl implements CommentRepository {
             return findQuery.getResultList();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find comments by task ID: " + taskId);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Comment> findById(Long id) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Comment comment = session.find(Comment.class, id);
             return Optional.ofNullable(comment);
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find comment by id: " + id);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
     public Comment update(Comment comment) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             Comment mergedComment = session.merge(comment);
-            transaction.commit();
+            saveChange(session, mergedComment, ProjectChange.Operation.UPDATE);
             return mergedComment;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't update comment by id: " + comment.getId());
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
     public void deleteById(Long id) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             int updatedRows = session.createQuery(
                     "UPDATE Comment c "
                             + "SET c.isDeleted = TRUE "
@@ -123,17 +93,16 @@ public class CommentRepositoryImpl implements CommentRepository {
                 throw new EntityNotFoundException("Can't find comment by id: " + id);
             }
 
-            transaction.commit();
+            saveChange(session, session.find(Comment.class, id), ProjectChange.Operation.DELETE);
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't delete comment by id: " + id);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
+
+    private void saveChange(Session session, Comment comment, ProjectChange.Operation operation) {
+        Long projectId = session.find(Task.class, comment.getTaskId()).getProjectId();
+        projectChangeRepository.save(ProjectChange.of(
+                projectId, ProjectChange.EntityType.COMMENT, comment.getId(), operation
+        ));
+    }
 }
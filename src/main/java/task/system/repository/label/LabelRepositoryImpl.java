@@ -4,54 +4,50 @@ import java.util.List;
 import java.util.Optional;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
 import task.system.model.Label;
+import task.system.model.ProjectChange;
+import task.system.repository.project.ProjectChangeRepository;
 
 @Repository
+@Transactional
 public class LabelRepositoryImpl implements LabelRepository {
+    private static final String DEFAULT_LABELS_REGION = "labels.defaults";
+
     private final SessionFactory sessionFactory;
+    private final ProjectChangeRepository projectChangeRepository;
 
-    public LabelRepositoryImpl(SessionFactory sessionFactory) {
+    public LabelRepositoryImpl(
+            SessionFactory sessionFactory, ProjectChangeRepository projectChangeRepository
+    ) {
         this.sessionFactory = sessionFactory;
+        this.projectChangeRepository = projectChangeRepository;
     }
 
     @Override
     public Label save(Label label) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             session.persist(label);
-            transaction.commit();
+            saveChange(label, ProjectChange.Operation.CREATE);
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't insert label: " + label, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
 
         return label;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Label> findByNameAndColorAndProjectId(
             Label.Color color, String name, Long projectId
     ) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<Label> findQuery = session.createQuery("FROM Label l "
                     + "WHERE l.color = :color AND l.name = :name AND l.projectId = :projectId "
                             + "AND l.isDeleted = FALSE", Label.class
@@ -65,19 +61,14 @@ public class LabelRepositoryImpl implements LabelRepository {
                     "Can't find label by projectId: " + projectId + ", color: " + color
                             + ", name: " + name, e
             );
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Label> findAllByProjectId(Long projectId) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<Label> labels = session.createQuery("FROM Label l "
                     + "WHERE l.projectId = :projectId OR l.projectId = NULL "
                             + "AND l.isDeleted = FALSE", Label.class
@@ -86,62 +77,37 @@ public class LabelRepositoryImpl implements LabelRepository {
             return labels.getResultList();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find labels by project ID: " + projectId, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Label> findById(Long id) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Label label = session.find(Label.class, id);
             return Optional.ofNullable(label);
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find label by id: " + id, e);
-        } finally {
-            if (session != null & session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
     public Label update(Label label) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             Label mergedLabel = session.merge(label);
-            transaction.commit();
+            saveChange(mergedLabel, ProjectChange.Operation.UPDATE);
             return mergedLabel;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't update label by id: " + label, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
     public void deleteById(Long id) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             Query deleteQuery = session.createQuery("UPDATE Label l "
                     + "SET l.isDeleted = TRUE "
                     + "WHERE l.id = :id AND l.isDeleted= FALSE ");
@@ -152,55 +118,49 @@ public class LabelRepositoryImpl implements LabelRepository {
                 throw new EntityNotFoundException("Can't find label by id: " + id);
             }
 
-            transaction.commit();
+            saveChange(session.find(Label.class, id), ProjectChange.Operation.DELETE);
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't delete label by id: " + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Label> findDefaultLabels() {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<Label> findDefaultQuery = session.createQuery("FROM Label l "
                             + "WHERE l.projectId = NULL AND l.isDeleted = FALSE", Label.class
             );
-            return findDefaultQuery.getResultList();
+            return findDefaultQuery.setCacheable(true)
+                    .setCacheRegion(DEFAULT_LABELS_REGION)
+                    .getResultList();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find default labels", e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Label findDefaultGreyLabel() {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<Label> findByColorQuery = session.createQuery("FROM Label l "
                             + "WHERE l.color = Color.GRAY AND l.name = NULL", Label.class
             );
-            return findByColorQuery.uniqueResult();
+            return findByColorQuery.setCacheable(true)
+                    .setCacheRegion(DEFAULT_LABELS_REGION)
+                    .uniqueResult();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find default GREY label", e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
+        }
+    }
+
+    private void saveChange(Label label, ProjectChange.Operation operation) {
+        if (label.getProjectId() != null) {
+            projectChangeRepository.save(ProjectChange.of(
+                    label.getProjectId(), ProjectChange.EntityType.LABEL, label.getId(), operation
+            ));
         }
     }
 }
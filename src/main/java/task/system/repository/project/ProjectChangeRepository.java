@@ -0,0 +1,20 @@
+package task.system.repository.project;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import task.system.model.ProjectChange;
+
+public interface ProjectChangeRepository {
+    ProjectChange save(ProjectChange change);
+
+    List<ProjectChange> saveAll(List<ProjectChange> changes);
+
+    List<ProjectChange> findAllByProjectIdAfter(Long projectId, Long since, int limit);
+
+    Optional<Long> findFirstSequence();
+
+    Optional<Long> findLastSequence();
+
+    int deleteAllBefore(LocalDateTime timestamp);
+}
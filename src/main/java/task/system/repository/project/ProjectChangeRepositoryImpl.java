@@ -0,0 +1,129 @@
+package task.system.repository.project;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import task.system.exception.DataProcessingException;
+import task.system.exception.EntityNotFoundException;
+import task.system.model.ProjectChange;
+
+/**
+ * Writers take an exclusive transaction-level advisory lock on the project before the change
+ * id is generated and hold it until commit, readers take a shared one. Within a project,
+ * changes therefore become visible in id order, and a reader never skips an id that is
+ * committed after it has read past it. Compaction deletes a prefix of ids, so the first
+ * retained id tells a reader whether changes after its cursor may be gone.
+ */
+@Repository
+@Transactional
+public class ProjectChangeRepositoryImpl implements ProjectChangeRepository {
+    private static final String WRITE_LOCK = "SELECT pg_advisory_xact_lock(?)";
+    private static final String READ_LOCK = "SELECT pg_advisory_xact_lock_shared(?)";
+
+    private final SessionFactory sessionFactory;
+
+    public ProjectChangeRepositoryImpl(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public ProjectChange save(ProjectChange change) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            lockProject(session, WRITE_LOCK, change.getProjectId());
+            session.persist(change);
+            return change;
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't save change of " + change.getEntityType()
+                    + " with id: " + change.getEntityId(), e);
+        }
+    }
+
+    @Override
+    public List<ProjectChange> saveAll(List<ProjectChange> changes) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            changes.stream()
+                    .map(ProjectChange::getProjectId)
+                    .distinct()
+                    .sorted()
+                    .forEach(projectId -> lockProject(session, WRITE_LOCK, projectId));
+            changes.forEach(session::persist);
+            return changes;
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't save " + changes.size() + " changes", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectChange> findAllByProjectIdAfter(Long projectId, Long since, int limit) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            lockProject(session, READ_LOCK, projectId);
+            return session.createQuery("FROM ProjectChange c "
+                            + "WHERE c.projectId = :projectId AND c.id > :since "
+                            + "ORDER BY c.id", ProjectChange.class)
+                    .setParameter("projectId", projectId)
+                    .setParameter("since", since)
+                    .setMaxResults(limit)
+                    .getResultList();
+        } catch (Exception e) {
+            throw new EntityNotFoundException("Can't find changes of project by id: " + projectId
+                    + " after: " + since, e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findFirstSequence() {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            return session.createQuery("SELECT MIN(c.id) FROM ProjectChange c", Long.class)
+                    .uniqueResultOptional();
+        } catch (Exception e) {
+            throw new EntityNotFoundException("Can't find first change sequence", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findLastSequence() {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            return session.createQuery("SELECT MAX(c.id) FROM ProjectChange c", Long.class)
+                    .uniqueResultOptional();
+        } catch (Exception e) {
+            throw new EntityNotFoundException("Can't find last change sequence", e);
+        }
+    }
+
+    @Override
+    public int deleteAllBefore(LocalDateTime timestamp) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            return session.createNativeMutationQuery("DELETE FROM project_changes "
+                            + "WHERE id < (SELECT COALESCE("
+                            + "MIN(id) FILTER (WHERE timestamp >= :timestamp), MAX(id)) "
+                            + "FROM project_changes)")
+                    .setParameter("timestamp", timestamp)
+                    .executeUpdate();
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't delete changes before: " + timestamp, e);
+        }
+    }
+
+    private void lockProject(Session session, String lock, Long projectId) {
+        session.doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(lock)) {
+                statement.setLong(1, projectId);
+                statement.execute();
+            }
+        });
+    }
+}
@@ -1,17 +1,47 @@
 package task.system.repository.project;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import task.system.dto.project.ProjectLowInfoResponse;
 import task.system.model.Project;
 
+/**
+ * Projects are read through one of three fetch plans, none of which joins the users and
+ * administrators collections together:
+ * <ul>
+ *     <li>{@link #findHeaderById} - the project row only, for access checks and scalar
+ *     updates;</li>
+ *     <li>the header with {@link #findUserIdsByProjectId} and
+ *     {@link #findAdministratorIdsByProjectId} - member ids from the join tables, for
+ *     details responses and membership checks;</li>
+ *     <li>{@link #findById} - the full entity graph, each collection loaded by its own
+ *     query.</li>
+ * </ul>
+ */
 public interface ProjectRepository {
     Project save(Project project);
 
-    List<Project> findAllProjectsByUserId(Long id);
+    List<ProjectLowInfoResponse> findAllLowInfoByUserId(Long id);
 
     Optional<Project> findById(Long id);
 
+    Optional<Project> findHeaderById(Long id);
+
+    List<Long> findUserIdsByProjectId(Long id);
+
+    List<Long> findAdministratorIdsByProjectId(Long id);
+
     Project update(Project project);
 
+    Set<Long> addUsers(Long id, Collection<Long> userIds);
+
+    Set<Long> addAdministrators(Long id, Collection<Long> userIds);
+
+    Set<Long> removeUsers(Long id, Collection<Long> userIds);
+
+    Set<Long> removeAdministrators(Long id, Collection<Long> userIds);
+
     void deleteById(Long id);
 }
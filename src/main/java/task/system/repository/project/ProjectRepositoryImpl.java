@@ -1,16 +1,24 @@
 package task.system.repository.project;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.hibernate.Hibernate;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.Transaction;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import task.system.dto.project.ProjectLowInfoResponse;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
 import task.system.model.Project;
 
 @Repository
+@Transactional
 public class ProjectRepositoryImpl implements ProjectRepository {
     private final SessionFactory sessionFactory;
 
@@ -20,109 +28,115 @@ public class ProjectRepositoryImpl implements ProjectRepository {
 
     @Override
     public Project save(Project project) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             session.persist(project);
-            transaction.commit();
+            session.flush();
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't save project: " + project, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
 
         return project;
     }
 
     @Override
-    public List<Project> findAllProjectsByUserId(Long id) {
-        Session session = null;
-
+    @Transactional(readOnly = true)
+    public List<ProjectLowInfoResponse> findAllLowInfoByUserId(Long id) {
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             return session.createQuery(
-                    "SELECT p FROM Project p "
-                            + "JOIN FETCH p.mainUser mu "
-                            + "JOIN FETCH p.administrators ad "
-                            + "JOIN FETCH p.users u "
+                    "SELECT new task.system.dto.project.ProjectLowInfoResponse("
+                            + "p.id, p.name, p.description) "
+                            + "FROM Project p "
+                            + "JOIN p.users u "
                             + "WHERE u.id = :userId "
                             + "AND p.isDeleted = FALSE",
-                    Project.class)
+                    ProjectLowInfoResponse.class)
                     .setParameter("userId", id)
                     .list();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find projects by user id" + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Project> findById(Long id) {
-        Session session = null;
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            Optional<Project> project = Optional.ofNullable(session.find(Project.class, id))
+                    .filter(foundProject -> !foundProject.isDeleted());
+            project.ifPresent(foundProject -> {
+                Hibernate.initialize(foundProject.getMainUser());
+                Hibernate.initialize(foundProject.getAdministrators());
+                Hibernate.initialize(foundProject.getUsers());
+            });
+            return project;
+        } catch (Exception e) {
+            throw new EntityNotFoundException("Can't find project by id: " + id, e);
+        }
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Project> findHeaderById(Long id) {
         try {
-            session = sessionFactory.openSession();
-            return session.createQuery(
-                    "FROM Project p "
-                            + "JOIN FETCH p.mainUser mu "
-                            + "JOIN FETCH p.administrators ad "
-                            + "JOIN FETCH p.users u "
-                            + "WHERE p.id = :id "
-                            + "AND p.isDeleted = FALSE ", Project.class)
-                    .setParameter("id", id)
-                    .uniqueResultOptional();
+            Session session = sessionFactory.getCurrentSession();
+            return Optional.ofNullable(session.find(Project.class, id))
+                    .filter(foundProject -> !foundProject.isDeleted());
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find project by id: " + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
-    public Project update(Project project) {
-        Session session = null;
-        Transaction transaction = null;
+    @Transactional(readOnly = true)
+    public List<Long> findUserIdsByProjectId(Long id) {
+        return findMemberIds("users", id);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findAdministratorIdsByProjectId(Long id) {
+        return findMemberIds("administrators", id);
+    }
+
+    @Override
+    public Project update(Project project) {
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             Project mergedProject = session.merge(project);
-            transaction.commit();
+            session.flush();
             return mergedProject;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't update project: " + project, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
+    @Override
+    public Set<Long> addUsers(Long id, Collection<Long> userIds) {
+        return addMembers("projects_users", id, userIds);
+    }
+
+    @Override
+    public Set<Long> addAdministrators(Long id, Collection<Long> userIds) {
+        return addMembers("projects_administrators", id, userIds);
+    }
+
+    @Override
+    public Set<Long> removeUsers(Long id, Collection<Long> userIds) {
+        return removeMembers("projects_users", id, userIds);
+    }
+
+    @Override
+    public Set<Long> removeAdministrators(Long id, Collection<Long> userIds) {
+        return removeMembers("projects_administrators", id, userIds);
+    }
+
     @Override
     public void deleteById(Long id) {
-        Session session = null;
-        Transaction transaction = null;
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             int rowsUpdated = session.createQuery(
                     "UPDATE Project p "
                             + " SET p.isDeleted = TRUE "
@@ -134,17 +148,79 @@ public class ProjectRepositoryImpl implements ProjectRepository {
                 throw new EntityNotFoundException("Project with id:" + id + " not found.");
             }
 
-            transaction.commit();
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't delete project by id:" + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
+        }
+    }
+
+    private Set<Long> addMembers(String table, Long id, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            return changeMembers(table, "INSERT INTO " + table + " (project_id, user_id) "
+                    + "SELECT :projectId, u.id FROM users u "
+                    + "WHERE u.id IN (:userIds) "
+                    + "ON CONFLICT DO NOTHING "
+                    + "RETURNING user_id", id, userIds);
+        } catch (Exception e) {
+            throw new DataProcessingException(
+                    "Can't add " + userIds + " to " + table + " of project by id: " + id, e
+            );
+        }
+    }
+
+    private Set<Long> removeMembers(String table, Long id, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            return changeMembers(table, "DELETE FROM " + table + " "
+                    + "WHERE project_id = :projectId "
+                    + "AND user_id IN (:userIds) "
+                    + "RETURNING user_id", id, userIds);
+        } catch (Exception e) {
+            throw new DataProcessingException(
+                    "Can't remove " + userIds + " from " + table + " of project by id: " + id, e
+            );
+        }
+    }
+
+    /**
+     * Runs a membership statement whose RETURNING clause reports the user ids actually
+     * inserted or deleted. The statement is read as a query, so the cached membership
+     * collections are invalidated here the same way executeUpdate would do it.
+     */
+    private Set<Long> changeMembers(
+            String table, String statement, Long id, Collection<Long> userIds
+    ) {
+        SessionImplementor session = sessionFactory.getCurrentSession()
+                .unwrap(SessionImplementor.class);
+        session.getActionQueue().addAction(new BulkOperationCleanupAction(session, Set.of(table)));
+        return new HashSet<>(session.createNativeQuery(statement, Long.class)
+                .addSynchronizedQuerySpace(table)
+                .setParameter("projectId", id)
+                .setParameterList("userIds", userIds)
+                .list());
+    }
+
+    private List<Long> findMemberIds(String membership, Long id) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            return session.createQuery(
+                    "SELECT m.id FROM Project p "
+                            + "JOIN p." + membership + " m "
+                            + "WHERE p.id = :projectId "
+                            + "AND p.isDeleted = FALSE",
+                    Long.class)
+                    .setParameter("projectId", id)
+                    .list();
+        } catch (Exception e) {
+            throw new EntityNotFoundException(
+                    "Can't find " + membership + " of project by id: " + id, e
+            );
         }
     }
 }
@@ -5,11 +5,15 @@ import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.query.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.exception.EntityNotFoundException;
 import task.system.model.Role;
 
 @Repository
+@Transactional
 public class RoleRepositoryImpl implements RoleRepository {
+    private static final String ROLES_BY_NAME_REGION = "roles.by-name";
+
     private final SessionFactory sessionFactory;
 
     public RoleRepositoryImpl(SessionFactory sessionFactory) {
@@ -17,21 +21,18 @@ public class RoleRepositoryImpl implements RoleRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Role> findByName(Role.RoleName name) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<Role> query = session.createQuery("FROM Role r WHERE r.name = :name ",
                     Role.class);
             query.setParameter("name", name);
-            return query.uniqueResultOptional();
+            return query.setCacheable(true)
+                    .setCacheRegion(ROLES_BY_NAME_REGION)
+                    .uniqueResultOptional();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find role by name: " + name);
-        } finally {
-            if (session != null) {
-                session.close();
-            }
         }
     }
 }
@@ -1,17 +1,31 @@
 package task.system.repository.task;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import task.system.dto.task.TaskCursor;
+import task.system.dto.task.TaskPageItem;
+import task.system.dto.task.TaskSearchParameters;
 import task.system.model.Task;
 
 public interface TaskRepository {
     Task save(Task task);
 
-    List<Task> findAllByProjectId(Long id);
+    int saveAll(List<Task> tasks);
+
+    List<TaskPageItem> findPageByProjectId(
+            Long id, TaskSearchParameters parameters, TaskCursor cursor, int limit
+    );
 
     Optional<Task> findById(Long id);
 
+    List<Task> findAllByIds(Collection<Long> ids);
+
     Task update(Task taskFromDb);
 
+    int updateAll(List<Task> tasks);
+
     void deleteById(Long id);
+
+    int deleteAllByIds(Collection<Long> ids);
 }
@@ -1,140 +1,312 @@
 package task.system.repository.task;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import task.system.dto.task.TaskCursor;
+import task.system.dto.task.TaskPageItem;
+import task.system.dto.task.TaskSearchParameters;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
+import task.system.model.ProjectChange;
 import task.system.model.Task;
+import task.system.repository.project.ProjectChangeRepository;
 
+/**
+ * Batch inserts and updates are sent as JDBC batches of hibernate.jdbc.batch_size statements
+ * and report the sum of the row counts returned by the driver. With reWriteBatchedInserts the
+ * PostgreSQL driver reports SUCCESS_NO_INFO for each rewritten insert, which counts as one
+ * row. Ids of new tasks come from the same pooled-lo generator as single inserts.
+ */
 @Repository
+@Transactional
 public class TaskRepositoryImpl implements TaskRepository {
+    private static final String INSERT_TASK = "INSERT INTO tasks (id, name, description, "
+            + "priority, status, due_date, project_id, assignee_id, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_TASK = "UPDATE tasks "
+            + "SET name = ?, description = ?, priority = ?, status = ?, due_date = ?, "
+            + "assignee_id = ? "
+            + "WHERE id = ? AND is_deleted = FALSE";
+
     private final SessionFactory sessionFactory;
+    private final ProjectChangeRepository projectChangeRepository;
+    private final int batchSize;
 
-    public TaskRepositoryImpl(SessionFactory sessionFactory) {
+    public TaskRepositoryImpl(
+            SessionFactory sessionFactory,
+            ProjectChangeRepository projectChangeRepository,
+            @Value("${hibernate.jdbc.batch_size:50}") int batchSize
+    ) {
         this.sessionFactory = sessionFactory;
+        this.projectChangeRepository = projectChangeRepository;
+        this.batchSize = batchSize;
     }
 
     @Override
     public Task save(Task task) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             session.persist(task);
-            transaction.commit();
+            projectChangeRepository.save(toChange(task, ProjectChange.Operation.CREATE));
             return task;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
-            throw new DataProcessingException("Can't save task: " + task);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
+            throw new DataProcessingException("Can't save task: " + task, e);
         }
     }
 
     @Override
-    public List<Task> findAllByProjectId(Long id) {
-        Session session = null;
+    public int saveAll(List<Task> tasks) {
+        try {
+            SessionImplementor session = sessionFactory.getCurrentSession()
+                    .unwrap(SessionImplementor.class);
+            IdentifierGenerator idGenerator = session.getFactory().getMappingMetamodel()
+                    .getEntityDescriptor(Task.class).getIdentifierGenerator();
+            tasks.forEach(task -> task.setId((Long) idGenerator.generate(session, task)));
+            int rowsInserted = executeBatch(session, INSERT_TASK, tasks, (statement, task) -> {
+                statement.setLong(1, task.getId());
+                statement.setString(2, task.getName());
+                statement.setString(3, task.getDescription());
+                statement.setString(4, task.getPriority().name());
+                statement.setString(5, task.getStatus().name());
+                statement.setObject(6, task.getDueDate());
+                statement.setLong(7, task.getProjectId());
+                statement.setObject(8, task.getAssigneeId(), Types.BIGINT);
+                statement.setBoolean(9, task.isDeleted());
+            });
+            projectChangeRepository.saveAll(toChanges(tasks, ProjectChange.Operation.CREATE));
+            return rowsInserted;
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't save " + tasks.size() + " tasks", e);
+        }
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskPageItem> findPageByProjectId(
+            Long id, TaskSearchParameters parameters, TaskCursor cursor, int limit
+    ) {
         try {
-            session = sessionFactory.openSession();
-            Query<Task> getAllQuery = session.createQuery(
-                    "FROM Task t "
-                            + "WHERE t.projectId = :projectId AND t.isDeleted = FALSE", Task.class);
-            getAllQuery.setParameter("projectId", id);
-            return getAllQuery.getResultList();
+            StringBuilder hql = new StringBuilder("SELECT new task.system.dto.task.TaskPageItem("
+                    + "t.id, t.name, t.description, t.dueDate) "
+                    + "FROM Task t "
+                    + "WHERE t.projectId = :projectId AND t.isDeleted = FALSE ");
+
+            if (parameters.getStatus() != null) {
+                hql.append("AND t.status = :status ");
+            }
+
+            if (parameters.getPriority() != null) {
+                hql.append("AND t.priority = :priority ");
+            }
+
+            if (parameters.getAssigneeId() != null) {
+                hql.append("AND t.assigneeId = :assigneeId ");
+            }
+
+            if (parameters.getDueDateFrom() != null) {
+                hql.append("AND t.dueDate >= :dueDateFrom ");
+            }
+
+            if (parameters.getDueDateTo() != null) {
+                hql.append("AND t.dueDate <= :dueDateTo ");
+            }
+
+            if (cursor != null) {
+                hql.append("AND (t.dueDate > :cursorDueDate "
+                        + "OR (t.dueDate = :cursorDueDate AND t.id > :cursorId)) ");
+            }
+
+            hql.append("ORDER BY t.dueDate, t.id");
+            Session session = sessionFactory.getCurrentSession();
+            Query<TaskPageItem> pageQuery = session.createQuery(
+                    hql.toString(), TaskPageItem.class
+            );
+            pageQuery.setParameter("projectId", id);
+            Optional.ofNullable(parameters.getStatus())
+                    .ifPresent(status -> pageQuery.setParameter("status", status));
+            Optional.ofNullable(parameters.getPriority())
+                    .ifPresent(priority -> pageQuery.setParameter("priority", priority));
+            Optional.ofNullable(parameters.getAssigneeId())
+                    .ifPresent(assigneeId -> pageQuery.setParameter("assigneeId", assigneeId));
+            Optional.ofNullable(parameters.getDueDateFrom())
+                    .ifPresent(from -> pageQuery.setParameter("dueDateFrom", from));
+            Optional.ofNullable(parameters.getDueDateTo())
+                    .ifPresent(to -> pageQuery.setParameter("dueDateTo", to));
+
+            if (cursor != null) {
+                pageQuery.setParameter("cursorDueDate", cursor.dueDate());
+                pageQuery.setParameter("cursorId", cursor.id());
+            }
+
+            return pageQuery.setMaxResults(limit).getResultList();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find tasks from project by id: " + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Task> findById(Long id) {
-        Session session = null;
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Task task = session.find(Task.class, id);
             return Optional.ofNullable(task);
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find task by id: " + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
-    public Task update(Task taskFromDb) {
-        Session session = null;
-        Transaction transaction = null;
+    @Transactional(readOnly = true)
+    public List<Task> findAllByIds(Collection<Long> ids) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            return session.createQuery("FROM Task t "
+                            + "WHERE t.id IN (:ids) AND t.isDeleted = FALSE", Task.class)
+                    .setParameterList("ids", ids)
+                    .getResultList();
+        } catch (Exception e) {
+            throw new EntityNotFoundException("Can't find tasks by ids: " + ids, e);
+        }
+    }
 
+    @Override
+    public Task update(Task taskFromDb) {
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             Task updatedTask = session.merge(taskFromDb);
-            transaction.commit();;
+            projectChangeRepository.save(toChange(updatedTask, ProjectChange.Operation.UPDATE));
             return updatedTask;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
+            throw new DataProcessingException("Can't update task: " + taskFromDb, e);
+        }
+    }
 
-            throw new DataProcessingException("Can't update task: " + taskFromDb);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
+    @Override
+    public int updateAll(List<Task> tasks) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            tasks.forEach(session::detach);
+            int rowsUpdated = executeBatch(session, UPDATE_TASK, tasks, (statement, task) -> {
+                statement.setString(1, task.getName());
+                statement.setString(2, task.getDescription());
+                statement.setString(3, task.getPriority().name());
+                statement.setString(4, task.getStatus().name());
+                statement.setObject(5, task.getDueDate());
+                statement.setObject(6, task.getAssigneeId(), Types.BIGINT);
+                statement.setLong(7, task.getId());
+            });
+            projectChangeRepository.saveAll(toChanges(tasks, ProjectChange.Operation.UPDATE));
+            return rowsUpdated;
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't update " + tasks.size() + " tasks", e);
         }
     }
 
     @Override
     public void deleteById(Long id) {
-        Session session = null;
-        Transaction transaction = null;
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            Long projectId = session.createNativeQuery("UPDATE tasks "
+                            + "SET is_deleted = TRUE "
+                            + "WHERE id = :taskId AND is_deleted = FALSE "
+                            + "RETURNING project_id", Long.class)
+                    .setParameter("taskId", id)
+                    .uniqueResultOptional()
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            "Task with id: " + id + " not found."
+                    ));
+            projectChangeRepository.save(ProjectChange.of(
+                    projectId, ProjectChange.EntityType.TASK, id, ProjectChange.Operation.DELETE
+            ));
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't delete task by id: " + id, e);
+        }
+    }
 
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
-            int rowsUpdated = session.createQuery(
-                    "UPDATE Task t "
+            Session session = sessionFactory.getCurrentSession();
+            List<ProjectChange> changes = session.createQuery("SELECT t.projectId, t.id "
+                            + "FROM Task t "
+                            + "WHERE t.id IN (:ids) AND t.isDeleted = FALSE", Object[].class)
+                    .setParameterList("ids", ids)
+                    .getResultList()
+                    .stream()
+                    .map(row -> ProjectChange.of((Long) row[0], ProjectChange.EntityType.TASK,
+                            (Long) row[1], ProjectChange.Operation.DELETE))
+                    .toList();
+            int rowsUpdated = session.createQuery("UPDATE Task t "
                             + "SET t.isDeleted = TRUE "
-                            + "WHERE t.id = :taskId AND t.isDeleted = FALSE "
-                    )
-                    .setParameter("taskId", id)
+                            + "WHERE t.id IN (:ids) AND t.isDeleted = FALSE")
+                    .setParameterList("ids", ids)
                     .executeUpdate();
+            projectChangeRepository.saveAll(changes);
+            return rowsUpdated;
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't delete tasks by ids: " + ids, e);
+        }
+    }
 
-            if (rowsUpdated == 0) {
-                throw new EntityNotFoundException("Task with id: " + id + " not found.");
-            }
+    private ProjectChange toChange(Task task, ProjectChange.Operation operation) {
+        return ProjectChange.of(
+                task.getProjectId(), ProjectChange.EntityType.TASK, task.getId(), operation
+        );
+    }
 
-            transaction.commit();
-        } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
+    private List<ProjectChange> toChanges(List<Task> tasks, ProjectChange.Operation operation) {
+        return tasks.stream()
+                .map(task -> toChange(task, operation))
+                .toList();
+    }
 
-            throw new DataProcessingException("Can't delete task by id: " + id, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
+    private int executeBatch(
+            Session session, String sql, List<Task> tasks, TaskStatementBinder binder
+    ) {
+        return session.doReturningWork(connection -> {
+            int rows = 0;
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < tasks.size(); i++) {
+                    binder.bind(statement, tasks.get(i));
+                    statement.addBatch();
+
+                    if ((i + 1) % batchSize == 0 || i + 1 == tasks.size()) {
+                        rows += sumRowCounts(statement.executeBatch());
+                    }
+                }
             }
+
+            return rows;
+        });
+    }
+
+    private int sumRowCounts(int[] rowCounts) {
+        int rows = 0;
+
+        for (int rowCount : rowCounts) {
+            rows += rowCount == Statement.SUCCESS_NO_INFO ? 1 : rowCount;
         }
 
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface TaskStatementBinder {
+        void bind(PreparedStatement statement, Task task) throws SQLException;
     }
 }
@@ -1,5 +1,7 @@
 package task.system.repository.user;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import task.system.model.Role;
 import task.system.model.User;
@@ -9,6 +11,8 @@ public interface UserRepository {
 
     Optional<User> findById(Long id);
 
+    List<User> findAllByIds(Collection<Long> ids);
+
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsername(String username);
@@ -1,14 +1,19 @@
 package task.system.repository.user;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
 import task.system.model.Role;
@@ -16,47 +21,43 @@ import task.system.model.User;
 import task.system.repository.role.RoleRepository;
 
 @Repository
+@Transactional
 public class UserRepositoryImpl implements UserRepository {
     private static final Logger LOGGER = LogManager.getLogger(UserRepositoryImpl.class);
 
     private final SessionFactory sessionFactory;
     private final RoleRepository roleRepository;
+    private final int chunkSize;
 
     @Autowired
-    public UserRepositoryImpl(SessionFactory sessionFactory, RoleRepository roleRepository) {
+    public UserRepositoryImpl(
+            SessionFactory sessionFactory,
+            RoleRepository roleRepository,
+            @Value("${user.find-all.chunk-size:1000}") int chunkSize
+    ) {
         this.sessionFactory = sessionFactory;
         this.roleRepository = roleRepository;
+        this.chunkSize = chunkSize;
     }
 
     @Override
     public User save(User user) {
-        Session session = null;
-        Transaction transaction = null;
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             session.persist(user);
-            transaction.commit();
+            session.flush();
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             LOGGER.info("Can't save user by email: {}", user.getEmail());
             throw new DataProcessingException("Can't save user: " + user, e);
-        } finally {
-            if (session != null) {
-                session.close();
-            }
         }
         return user;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
-        Session session = null;
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<User> query = session.createQuery(
                     "FROM User u "
                             + "JOIN FETCH u.roles "
@@ -68,18 +69,39 @@ public class UserRepositoryImpl implements UserRepository {
         } catch (Exception e) {
             LOGGER.info("Can't find user by id: {}", id);
             throw new EntityNotFoundException("Can't find user by id: " + id);
-        } finally {
-            if (session != null) {
-                session.close();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllByIds(Collection<Long> ids) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+            List<User> users = new ArrayList<>(distinctIds.size());
+
+            for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+                int to = Math.min(from + chunkSize, distinctIds.size());
+                users.addAll(session.createQuery("FROM User u "
+                                + "JOIN FETCH u.roles "
+                                + "WHERE u.id IN (:ids) "
+                                + "AND u.isDeleted = FALSE", User.class)
+                        .setParameterList("ids", distinctIds.subList(from, to))
+                        .getResultList());
             }
+
+            return users;
+        } catch (Exception e) {
+            LOGGER.info("Can't find users by ids: {}", ids);
+            throw new DataProcessingException("Can't find users by ids: " + ids, e);
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
-        Session session = null;
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<User> query = session.createQuery(
                     "FROM User u "
                             + "JOIN FETCH u.roles "
@@ -91,19 +113,14 @@ public class UserRepositoryImpl implements UserRepository {
         } catch (Exception e) {
             LOGGER.info("Can't find user by email: {}", email);
             throw new DataProcessingException("Can't find user by email: " + email, e);
-        } finally {
-            if (session != null) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<User> query = session.createQuery(
                     "FROM User u "
                             + "JOIN FETCH u.roles "
@@ -115,67 +132,38 @@ public class UserRepositoryImpl implements UserRepository {
         } catch (Exception e) {
             LOGGER.info("Can't find user by username: {}", username);
             throw new DataProcessingException("Can't find user by username: " + username, e);
-        } finally {
-            if (session != null) {
-                session.close();
-            }
         }
     }
 
     @Override
     public void updateUser(User user) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             session.merge(user);
-            transaction.commit();
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             LOGGER.info("Can't update user by email: {}", user.getEmail());
             throw new DataProcessingException(
                     "Can't update user by email: " + user.getEmail(), e
             );
-        } finally {
-            if (session != null) {
-                session.close();
-            }
         }
     }
 
     @Override
     public User updateRoleById(Long id, Role.RoleName roleName) {
         User user = findById(id).get();
-        Session session = null;
-        Transaction transaction = null;
 
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             Role role = roleRepository.findByName(roleName).get();
             user.getRoles().add(role);
             User mergedUser = session.merge(user);
-            transaction.commit();
             return mergedUser;
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             LOGGER.info("Can't update role: {}, for user with email:{}",
                     roleName.name(), user.getEmail())
             ;
             throw new DataProcessingException("Can't update role: " + roleName.name()
                     + ", for user with email:" + user.getEmail());
-        } finally {
-            if (session != null) {
-                session.close();
-            }
         }
     }
 }
@@ -0,0 +1,76 @@
+package task.system.security;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+public class ExpiringCache<K, V> {
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Clock clock;
+
+    public ExpiringCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    public ExpiringCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    public Optional<V> get(K key) {
+        Entry<V> entry = entries.get(key);
+
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (entry.isExpired(clock.instant())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+
+        return Optional.of(entry.value());
+    }
+
+    public void put(K key, V value, Instant expiresAt) {
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            makeRoom();
+        }
+
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    public void evict(K key) {
+        entries.remove(key);
+    }
+
+    public void evictIf(Predicate<V> predicate) {
+        entries.values().removeIf(entry -> predicate.test(entry.value()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void makeRoom() {
+        Instant now = clock.instant();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        if (entries.size() >= maxSize) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparing(entry -> entry.getValue().expiresAt()))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -14,16 +15,23 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import task.system.model.User;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(
+            JwtUtil jwtUtil,
+            UserDetailsService userDetailsService,
+            PrincipalCache principalCache
+    ) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -34,9 +42,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String bearerToken = getToken(request);
 
-        if (bearerToken != null && jwtUtil.isValid(bearerToken)) {
-            String username = jwtUtil.getUserName(bearerToken);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        JwtToken token = bearerToken == null ? null : jwtUtil.parse(bearerToken);
+
+        if (token != null && !token.isExpired()) {
+            String username = token.subject();
+            Optional<UserPrincipal> cachedPrincipal = principalCache.get(username);
+            UserDetails userDetails = cachedPrincipal.isPresent()
+                    ? cachedPrincipal.get() : loadUser(username);
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     userDetails, userDetails.isCredentialsNonExpired(), userDetails.getAuthorities()
             );
@@ -45,6 +57,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails loadUser(String username) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+        if (userDetails instanceof User user) {
+            UserPrincipal principal = UserPrincipal.of(user);
+            principalCache.put(username, principal);
+            return principal;
+        }
+
+        return userDetails;
+    }
+
     private String getToken(HttpServletRequest request) {
         String token = request.getHeader("Authorization");
 
@@ -0,0 +1,9 @@
+package task.system.security;
+
+import java.time.Instant;
+
+public record JwtToken(String subject, Instant expiration) {
+    public boolean isExpired() {
+        return expiration.isBefore(Instant.now());
+    }
+}
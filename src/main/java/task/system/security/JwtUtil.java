@@ -1,23 +1,40 @@
 package task.system.security;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
+    private static final String TOKEN_HASH_ALGORITHM = "SHA-256";
+
     private final Key secret;
+    private final JwtParser parser;
+    private final ExpiringCache<String, JwtToken> verifiedTokens;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    public JwtUtil(@Value("${jwt.secret}") String secretString) {
+    public JwtUtil(
+            @Value("${jwt.secret}") String secretString,
+            @Value("${jwt.cache.max-size:10000}") int cacheMaxSize
+    ) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(secret)
+                .build();
+        verifiedTokens = new ExpiringCache<>(cacheMaxSize);
     }
 
     public String generateToken(String email) {
@@ -29,26 +46,41 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean isValid(String bearerToken) {
+    public JwtToken parse(String bearerToken) {
+        String tokenHash = hash(bearerToken);
+        Optional<JwtToken> verifiedToken = verifiedTokens.get(tokenHash);
+
+        if (verifiedToken.isPresent()) {
+            return verifiedToken.get();
+        }
+
         try {
-            Date expiration = Jwts.parserBuilder()
-                    .setSigningKey(secret)
-                    .build()
-                    .parseClaimsJws(bearerToken)
-                    .getBody()
-                    .getExpiration();
-            return !expiration.before(new Date());
+            Claims claims = parser.parseClaimsJws(bearerToken).getBody();
+            JwtToken token = new JwtToken(
+                    claims.getSubject(), claims.getExpiration().toInstant()
+            );
+            verifiedTokens.put(tokenHash, token, token.expiration());
+            return token;
         } catch (JwtException | IllegalArgumentException e) {
             throw new JwtException("Expired or invalid JWT token");
         }
     }
 
+    public boolean isValid(String bearerToken) {
+        return !parse(bearerToken).isExpired();
+    }
+
     public String getUserName(String bearerToken) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secret)
-                .build()
-                .parseClaimsJws(bearerToken)
-                .getBody()
-                .getSubject();
+        return parse(bearerToken).subject();
+    }
+
+    private String hash(String bearerToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance(TOKEN_HASH_ALGORITHM)
+                    .digest(bearerToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Can't hash JWT token", e);
+        }
     }
 }
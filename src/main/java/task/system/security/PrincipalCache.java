@@ -0,0 +1,50 @@
+package task.system.security;
+
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PrincipalCache {
+    private final ExpiringCache<String, UserPrincipal> cache;
+    private final long ttl;
+
+    public PrincipalCache(
+            @Value("${principal.cache.ttl:300000}") long ttl,
+            @Value("${principal.cache.max-size:10000}") int maxSize
+    ) {
+        this.ttl = ttl;
+        this.cache = new ExpiringCache<>(maxSize);
+    }
+
+    public Optional<UserPrincipal> get(String username) {
+        return cache.get(username);
+    }
+
+    public void put(String username, UserPrincipal principal) {
+        cache.put(username, principal, Instant.now().plusMillis(ttl));
+    }
+
+    public void evict(Long userId) {
+        cache.evictIf(principal -> principal.id().equals(userId));
+    }
+
+    public void evictAfterCompletion(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        evict(userId);
+                    }
+                }
+        );
+    }
+}
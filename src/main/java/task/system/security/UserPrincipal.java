@@ -0,0 +1,101 @@
+package task.system.security;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import task.system.model.Role;
+import task.system.model.User;
+
+/**
+ * Immutable snapshot of an authenticated user. It is shared between request threads through
+ * {@link PrincipalCache}, so it never exposes the entity it was taken from; every
+ * {@link #toUser()} call returns a fresh copy.
+ */
+public record UserPrincipal(
+        Long id,
+        String username,
+        String email,
+        String firstName,
+        String lastName,
+        Set<Role.RoleName> roles,
+        boolean enabled
+) implements UserDetails {
+    public UserPrincipal {
+        roles = Set.copyOf(roles);
+    }
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.getRoles().stream()
+                        .map(Role::getName)
+                        .collect(Collectors.toSet()),
+                user.isEnabled()
+        );
+    }
+
+    public User toUser() {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setRoles(roles.stream()
+                .map(this::toRole)
+                .collect(Collectors.toCollection(HashSet::new)));
+        user.setDeleted(!enabled);
+        return user;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.name()))
+                .toList();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private Role toRole(Role.RoleName name) {
+        Role role = new Role();
+        role.setName(name);
+        return role;
+    }
+}
@@ -1,14 +1,20 @@
 package task.system.service.attachment;
 
-import org.springframework.core.io.InputStreamResource;
+import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import task.system.dto.attachment.AttachmentUploadProgressDto;
 import task.system.model.Attachment;
 
 public interface AttachmentService {
     Attachment upload(MultipartFile file, Long taskId);
 
-    ResponseEntity<InputStreamResource> download(Long attachmentId);
+    List<Attachment> uploadAll(List<MultipartFile> files, Long taskId, String uploadId);
 
-    ResponseEntity<InputStreamResource> downloadAllByTaskId(Long id);
+    List<AttachmentUploadProgressDto> getUploadProgress(String uploadId);
+
+    ResponseEntity<StreamingResponseBody> download(Long attachmentId);
+
+    ResponseEntity<StreamingResponseBody> downloadAllByTaskId(Long id);
 }
@@ -1,136 +1,268 @@
 package task.system.service.attachment;
 
-import com.dropbox.core.DbxException;
-import com.dropbox.core.v2.DbxClientV2;
-import com.dropbox.core.v2.files.FileMetadata;
+import jakarta.annotation.PreDestroy;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Date;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import task.system.config.ExecutorThreadFactory;
+import task.system.dto.attachment.AttachmentUploadProgressDto;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
 import task.system.model.Attachment;
 import task.system.model.Task;
 import task.system.repository.attachment.AttachmentRepository;
+import task.system.service.attachment.storage.BlobStore;
 import task.system.service.task.TaskService;
+import task.system.service.user.UserService;
 
 @Service
+@Transactional
 public class AttachmentServiceImpl implements AttachmentService {
-    private final DbxClientV2 dbxClient;
+    private static final int ZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final BlobStore blobStore;
     private final AttachmentRepository attachmentRepository;
     private final TaskService taskService;
+    private final UserService userService;
+    private final AttachmentUploadTracker uploadTracker;
+    private final ExecutorService prefetchExecutor;
+    private final ExecutorService uploadExecutor;
+    private final int readAheadBytes;
 
     public AttachmentServiceImpl(
-            DbxClientV2 dbxClient,
+            BlobStore blobStore,
             AttachmentRepository attachmentRepository,
-            TaskService taskService
+            TaskService taskService,
+            UserService userService,
+            AttachmentUploadTracker uploadTracker,
+            ExecutorThreadFactory threadFactory,
+            @Value("${attachment.prefetch.threads:4}") int prefetchThreads,
+            @Value("${attachment.upload.threads:4}") int uploadThreads,
+            @Value("${attachment.upload.queue-capacity:100}") int uploadQueueCapacity,
+            @Value("${attachment.prefetch.read-ahead:1048576}") int readAheadBytes
     ) {
-        this.dbxClient = dbxClient;
+        this.blobStore = blobStore;
         this.attachmentRepository = attachmentRepository;
         this.taskService = taskService;
+        this.userService = userService;
+        this.uploadTracker = uploadTracker;
+        this.prefetchExecutor = Executors.newFixedThreadPool(
+                prefetchThreads, threadFactory.create("attachment-prefetch-")
+        );
+        this.uploadExecutor = new ThreadPoolExecutor(
+                uploadThreads, uploadThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(uploadQueueCapacity),
+                threadFactory.create("attachment-upload-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.readAheadBytes = readAheadBytes;
     }
 
     @Override
     public Attachment upload(MultipartFile file, Long taskId) {
-        FileMetadata fileMetadata;
         taskService.findById(taskId);
+        String storageKey;
 
-        try {
-            fileMetadata = dbxClient.files()
-                    .uploadBuilder("/" + file.getOriginalFilename())
-                    .uploadAndFinish(file.getInputStream());
-        } catch (DbxException | IOException e) {
-            throw new DataProcessingException("Can't upload file: " + file.getOriginalFilename()
-                    + ", to Dropbox service", e);
+        try (InputStream inputStream = file.getInputStream()) {
+            storageKey = blobStore.store(file.getOriginalFilename(), inputStream, file.getSize());
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't upload file: "
+                    + file.getOriginalFilename(), e);
         }
 
-        Attachment attachment = createAttachment(fileMetadata, taskId);
+        Attachment attachment = createAttachment(file.getOriginalFilename(), storageKey, taskId);
         return attachmentRepository.save(attachment);
     }
 
     @Override
-    public ResponseEntity<InputStreamResource> download(Long attachmentId) {
+    public List<Attachment> uploadAll(List<MultipartFile> files, Long taskId, String uploadId) {
+        taskService.findById(taskId);
+        Long ownerId = userService.getAuthenticatedUser().getId();
+        String trackingId = uploadId == null ? UUID.randomUUID().toString() : uploadId;
+        uploadTracker.start(ownerId, trackingId);
+
+        try {
+            List<CompletableFuture<Attachment>> uploads = IntStream.range(0, files.size())
+                    .mapToObj(index -> CompletableFuture.supplyAsync(
+                            () -> store(files.get(index), taskId, ownerId, trackingId, index),
+                            uploadExecutor
+                    ))
+                    .toList();
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+            List<Attachment> attachments = uploads.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+            return attachmentRepository.saveAll(attachments);
+        } catch (CompletionException e) {
+            throw new DataProcessingException("Can't upload files to task with id: "
+                    + taskId, e.getCause());
+        } finally {
+            uploadTracker.finish(ownerId, trackingId);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttachmentUploadProgressDto> getUploadProgress(String uploadId) {
+        Long ownerId = userService.getAuthenticatedUser().getId();
+        return uploadTracker.getProgress(ownerId, uploadId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> download(Long attachmentId) {
         Attachment attachment = attachmentRepository.findById(attachmentId).orElseThrow(
                 () -> new EntityNotFoundException("Can't find attachment by id: " + attachmentId)
         );
-        String dropboxFileId = attachment.getDropboxFileId();
-        try {
-            InputStream inputStream = dbxClient.files().download(dropboxFileId).getInputStream();
-            InputStreamResource resource = new InputStreamResource(inputStream);
-
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\""
-                            + attachment.getFilename() + "\"")
-                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                    .body(resource);
-        } catch (DbxException e) {
-            throw new RuntimeException("Error downloading file from Dropbox ", e);
-        }
+        StreamingResponseBody responseBody = outputStream ->
+                blobStore.transferTo(attachment.getStorageKey(), outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\""
+                        + attachment.getFilename() + "\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(responseBody);
     }
 
     @Override
-    public ResponseEntity<InputStreamResource> downloadAllByTaskId(Long taskId) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<StreamingResponseBody> downloadAllByTaskId(Long taskId) {
         Task task = taskService.findById(taskId);
         List<Attachment> allByTaskId = attachmentRepository.findAllByTaskId(taskId);
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        StreamingResponseBody responseBody = outputStream -> writeZip(allByTaskId, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\""
+                        + task.getName() + "-attachments.zip\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(responseBody);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdown();
+        uploadExecutor.shutdown();
+    }
+
+    private Attachment store(
+            MultipartFile file, Long taskId, Long ownerId, String uploadId, int index
+    ) {
+        String filename = file.getOriginalFilename();
+        LongConsumer progress = uploadTracker.track(
+                ownerId, uploadId, index, filename, file.getSize()
+        );
 
-        try (ZipOutputStream zipOutputStream = new ZipOutputStream(byteArrayOutputStream)) {
-            for (Attachment attachment : allByTaskId) {
-                String dropboxFileId = attachment.getDropboxFileId();
-                zipOutputStream.putNextEntry(new ZipEntry(attachment.getFilename()));
+        try (InputStream inputStream = new ProgressInputStream(file.getInputStream(), progress)) {
+            String storageKey = blobStore.store(filename, inputStream, file.getSize());
+            return createAttachment(filename, storageKey, taskId);
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't upload file: " + filename, e);
+        }
+    }
+
+    /**
+     * Streams the attachments into one archive. While an entry is written, the next blob is
+     * opened on the prefetch executor and up to attachment.prefetch.read-ahead bytes of it are
+     * read into memory, so the storage latency of the next file overlaps with writing the
+     * current one.
+     */
+    private void writeZip(List<Attachment> attachments, OutputStream outputStream)
+            throws IOException {
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        byte[] buffer = new byte[ZIP_BUFFER_SIZE];
+        CompletableFuture<InputStream> nextContent =
+                attachments.isEmpty() ? null : openAsync(attachments.get(0));
 
-                try (InputStream inputStream =
-                             dbxClient.files().download(dropboxFileId).getInputStream()) {
-                    byte[] buffer = new byte[1024];
+        try {
+            for (int i = 0; i < attachments.size(); i++) {
+                Attachment attachment = attachments.get(i);
+                CompletableFuture<InputStream> content = nextContent;
+                nextContent = i + 1 < attachments.size()
+                        ? openAsync(attachments.get(i + 1)) : null;
+
+                try (InputStream inputStream = await(content, attachment)) {
+                    zipOutputStream.putNextEntry(new ZipEntry(attachment.getFilename()));
                     int length;
 
                     while ((length = inputStream.read(buffer)) > 0) {
                         zipOutputStream.write(buffer, 0, length);
                     }
-                } catch (DbxException e) {
-                    throw new RuntimeException(e);
                 }
 
                 zipOutputStream.closeEntry();
             }
-        } catch (IOException e) {
-            throw new DataProcessingException("Can't create and download Zip archive");
+
+            zipOutputStream.finish();
+        } finally {
+            if (nextContent != null) {
+                nextContent.thenAccept(this::closeQuietly);
+            }
         }
+    }
 
-        InputStreamResource resource = new InputStreamResource(
-                new ByteArrayInputStream(byteArrayOutputStream.toByteArray())
+    private CompletableFuture<InputStream> openAsync(Attachment attachment) {
+        return CompletableFuture.supplyAsync(
+                () -> readAhead(blobStore.open(attachment.getStorageKey())), prefetchExecutor
         );
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\""
-                        + task.getName() + "-attachments.zip\"")
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(resource);
     }
 
-    private Attachment createAttachment(FileMetadata fileMetadata, Long taskId) {
+    private InputStream readAhead(InputStream content) {
+        try {
+            byte[] head = content.readNBytes(readAheadBytes);
+            return new SequenceInputStream(new ByteArrayInputStream(head), content);
+        } catch (IOException e) {
+            closeQuietly(content);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private InputStream await(CompletableFuture<InputStream> content, Attachment attachment)
+            throws IOException {
+        try {
+            return content.join();
+        } catch (CompletionException e) {
+            throw new IOException("Can't create Zip archive entry: "
+                    + attachment.getFilename(), e.getCause());
+        }
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            //nothing to do, the archive is already aborted
+        }
+    }
+
+    private Attachment createAttachment(String filename, String storageKey, Long taskId) {
         Attachment attachment = new Attachment();
         attachment.setTaskId(taskId);
-        attachment.setFilename(fileMetadata.getName());
-        attachment.setUploadDate(convertToLocalDateTime(fileMetadata.getClientModified()));
-        attachment.setDropboxFileId(fileMetadata.getId());
+        attachment.setFilename(filename);
+        attachment.setUploadDate(LocalDateTime.now());
+        attachment.setStorageKey(storageKey);
         return attachment;
     }
-
-    private LocalDateTime convertToLocalDateTime(Date date) {
-        return date.toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
-    }
 }
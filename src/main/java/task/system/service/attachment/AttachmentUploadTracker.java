@@ -0,0 +1,86 @@
+package task.system.service.attachment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import org.springframework.stereotype.Component;
+import task.system.dto.attachment.AttachmentUploadProgressDto;
+import task.system.exception.DataProcessingException;
+import task.system.exception.EntityNotFoundException;
+
+/**
+ * Progress of multi-file uploads, scoped by the user who started them so upload ids chosen by
+ * clients can neither collide with nor be read by other users. Files are keyed by their part
+ * index, so files with the same name in one upload are tracked separately.
+ */
+@Component
+public class AttachmentUploadTracker {
+    private final Map<UploadKey, Map<Integer, FileProgress>> uploads = new ConcurrentHashMap<>();
+
+    public void start(Long ownerId, String uploadId) {
+        if (uploads.putIfAbsent(new UploadKey(ownerId, uploadId),
+                new ConcurrentSkipListMap<>()) != null) {
+            throw new DataProcessingException("Upload with id: " + uploadId
+                    + " is already in progress");
+        }
+    }
+
+    public LongConsumer track(
+            Long ownerId, String uploadId, int index, String filename, long totalBytes
+    ) {
+        FileProgress progress = new FileProgress(filename, totalBytes);
+        Map<Integer, FileProgress> files = uploads.get(new UploadKey(ownerId, uploadId));
+
+        if (files != null) {
+            files.put(index, progress);
+        }
+
+        return progress.uploadedBytes::addAndGet;
+    }
+
+    public List<AttachmentUploadProgressDto> getProgress(Long ownerId, String uploadId) {
+        Map<Integer, FileProgress> files = uploads.get(new UploadKey(ownerId, uploadId));
+
+        if (files == null) {
+            throw new EntityNotFoundException("Can't find upload in progress by id: " + uploadId);
+        }
+
+        return files.entrySet().stream()
+                .map(entry -> toDto(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    public void finish(Long ownerId, String uploadId) {
+        uploads.remove(new UploadKey(ownerId, uploadId));
+    }
+
+    int getActiveUploads() {
+        return uploads.size();
+    }
+
+    private AttachmentUploadProgressDto toDto(int index, FileProgress progress) {
+        AttachmentUploadProgressDto progressDto = new AttachmentUploadProgressDto();
+        progressDto.setIndex(index);
+        progressDto.setFilename(progress.filename);
+        progressDto.setUploadedBytes(progress.uploadedBytes.get());
+        progressDto.setTotalBytes(progress.totalBytes);
+        return progressDto;
+    }
+
+    private record UploadKey(Long ownerId, String uploadId) {
+    }
+
+    private static class FileProgress {
+        private final AtomicLong uploadedBytes = new AtomicLong();
+        private final String filename;
+        private final long totalBytes;
+
+        private FileProgress(String filename, long totalBytes) {
+            this.filename = filename;
+            this.totalBytes = totalBytes;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package task.system.service.attachment;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+class ProgressInputStream extends FilterInputStream {
+    private final LongConsumer listener;
+
+    ProgressInputStream(InputStream in, LongConsumer listener) {
+        super(in);
+        this.listener = listener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+
+        if (value != -1) {
+            listener.accept(1);
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int count = super.read(buffer, offset, length);
+
+        if (count > 0) {
+            listener.accept(count);
+        }
+
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        listener.accept(skipped);
+        return skipped;
+    }
+}
@@ -0,0 +1,23 @@
+package task.system.service.attachment.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Storage backend for attachment content. Implementations return an opaque key from
+ * {@link #store(String, InputStream, long)} which is persisted with the attachment and used
+ * to read the content back. The size is the expected content length, backends may use it
+ * to split large files into chunks.
+ */
+public interface BlobStore {
+    String store(String filename, InputStream content, long size);
+
+    InputStream open(String key);
+
+    default void transferTo(String key, OutputStream outputStream) throws IOException {
+        try (InputStream inputStream = open(key)) {
+            inputStream.transferTo(outputStream);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package task.system.service.attachment.storage;
+
+import com.dropbox.core.DbxException;
+import com.dropbox.core.v2.DbxClientV2;
+import com.dropbox.core.v2.files.CommitInfo;
+import com.dropbox.core.v2.files.UploadSessionCursor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import task.system.exception.DataProcessingException;
+
+@Component
+@ConditionalOnProperty(name = "attachment.storage.type", havingValue = "dropbox",
+        matchIfMissing = true)
+public class DropboxBlobStore implements BlobStore {
+    private static final String UPLOAD = "upload";
+    private static final String DOWNLOAD = "download";
+
+    private final DbxClientV2 dbxClient;
+    private final long chunkSize;
+    private final Timer uploadSuccessTimer;
+    private final Timer uploadFailureTimer;
+    private final Timer downloadSuccessTimer;
+    private final Timer downloadFailureTimer;
+    private final DistributionSummary uploadSize;
+    private final DistributionSummary downloadSize;
+
+    public DropboxBlobStore(
+            DbxClientV2 dbxClient,
+            MeterRegistry meterRegistry,
+            @Value("${attachment.upload.chunk-size:8388608}") long chunkSize
+    ) {
+        this.dbxClient = dbxClient;
+        this.chunkSize = chunkSize;
+        this.uploadSuccessTimer = createTimer(meterRegistry, UPLOAD, "success");
+        this.uploadFailureTimer = createTimer(meterRegistry, UPLOAD, "failure");
+        this.downloadSuccessTimer = createTimer(meterRegistry, DOWNLOAD, "success");
+        this.downloadFailureTimer = createTimer(meterRegistry, DOWNLOAD, "failure");
+        this.uploadSize = createSizeSummary(meterRegistry, UPLOAD);
+        this.downloadSize = createSizeSummary(meterRegistry, DOWNLOAD);
+    }
+
+    @Override
+    public String store(String filename, InputStream content, long size) {
+        long start = System.nanoTime();
+
+        try {
+            String id = size > chunkSize
+                    ? uploadInSession("/" + filename, content, size)
+                    : dbxClient.files()
+                            .uploadBuilder("/" + filename)
+                            .uploadAndFinish(content)
+                            .getId();
+            uploadSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            uploadSize.record(size);
+            return id;
+        } catch (DbxException | IOException e) {
+            uploadFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new DataProcessingException("Can't upload file: " + filename
+                    + ", to Dropbox service", e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        long start = System.nanoTime();
+
+        try {
+            InputStream content = dbxClient.files().download(key).getInputStream();
+            return new MeteredInputStream(content, (bytes, failed) -> {
+                Timer timer = failed ? downloadFailureTimer : downloadSuccessTimer;
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                downloadSize.record(bytes);
+            });
+        } catch (DbxException e) {
+            downloadFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new DataProcessingException("Can't download file: " + key
+                    + ", from Dropbox service", e);
+        }
+    }
+
+    private String uploadInSession(String path, InputStream content, long size)
+            throws DbxException, IOException {
+        String sessionId = dbxClient.files()
+                .uploadSessionStart()
+                .uploadAndFinish(content, chunkSize)
+                .getSessionId();
+        long offset = chunkSize;
+
+        while (size - offset > chunkSize) {
+            dbxClient.files()
+                    .uploadSessionAppendV2(new UploadSessionCursor(sessionId, offset))
+                    .uploadAndFinish(content, chunkSize);
+            offset += chunkSize;
+        }
+
+        UploadSessionCursor cursor = new UploadSessionCursor(sessionId, offset);
+        return dbxClient.files()
+                .uploadSessionFinish(cursor, CommitInfo.newBuilder(path).build())
+                .uploadAndFinish(content, size - offset)
+                .getId();
+    }
+
+    private static Timer createTimer(MeterRegistry meterRegistry, String operation, String result) {
+        return Timer.builder("dropbox.transfer")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary createSizeSummary(
+            MeterRegistry meterRegistry, String operation
+    ) {
+        return DistributionSummary.builder("dropbox.transfer.size")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
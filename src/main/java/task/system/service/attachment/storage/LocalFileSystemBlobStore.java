@@ -0,0 +1,114 @@
+package task.system.service.attachment.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import task.system.exception.DataProcessingException;
+import task.system.exception.EntityNotFoundException;
+
+/**
+ * Content-addressed store on a local or network-mounted directory. Files are keyed by the
+ * SHA-256 of their content, so identical files attached to several tasks are kept once.
+ */
+@Component
+@ConditionalOnProperty(name = "attachment.storage.type", havingValue = "local")
+public class LocalFileSystemBlobStore implements BlobStore {
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String TEMP_DIRECTORY = "tmp";
+
+    private final Path rootDirectory;
+
+    public LocalFileSystemBlobStore(
+            @Value("${attachment.storage.local.root-dir}") String rootDirectory
+    ) {
+        this.rootDirectory = Path.of(rootDirectory).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String store(String filename, InputStream content, long size) {
+        Path tempFile = null;
+
+        try {
+            Path tempDirectory = Files.createDirectories(rootDirectory.resolve(TEMP_DIRECTORY));
+            tempFile = Files.createTempFile(tempDirectory, "upload-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            try (DigestInputStream inputStream = new DigestInputStream(content, digest)) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            String key = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(key);
+
+            if (Files.exists(target)) {
+                return key;
+            }
+
+            Files.createDirectories(target.getParent());
+
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                tempFile = null;
+            } catch (FileAlreadyExistsException e) {
+                //the same content was stored concurrently, the existing file is reused
+            }
+
+            return key;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new DataProcessingException("Can't store file: " + filename
+                    + ", in directory: " + rootDirectory, e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(getExisting(key));
+        } catch (IOException e) {
+            throw new DataProcessingException("Can't read file by key: " + key, e);
+        }
+    }
+
+    private Path getExisting(String key) {
+        Path path = resolve(key);
+
+        if (!Files.isRegularFile(path)) {
+            throw new EntityNotFoundException("Can't find file by key: " + key);
+        }
+
+        return path;
+    }
+
+    private Path resolve(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new DataProcessingException("Invalid storage key: " + key);
+        }
+
+        return rootDirectory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            //left for the next cleanup of the temp directory
+        }
+    }
+}
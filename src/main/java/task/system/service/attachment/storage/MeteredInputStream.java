@@ -0,0 +1,73 @@
+package task.system.service.attachment.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+class MeteredInputStream extends FilterInputStream {
+    private final CloseListener listener;
+    private long bytes;
+    private boolean failed;
+    private boolean closed;
+
+    MeteredInputStream(InputStream in, CloseListener listener) {
+        super(in);
+        this.listener = listener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        try {
+            int value = super.read();
+
+            if (value != -1) {
+                bytes++;
+            }
+
+            return value;
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        try {
+            int count = super.read(buffer, offset, length);
+
+            if (count > 0) {
+                bytes += count;
+            }
+
+            return count;
+        } catch (IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        bytes += skipped;
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (!closed) {
+                closed = true;
+                listener.onClose(bytes, failed);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface CloseListener {
+        void onClose(long bytes, boolean failed);
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.dto.comment.CommentRequestDto;
 import task.system.dto.comment.CommentResponseDto;
 import task.system.dto.comment.CommentUpdateRequestDto;
@@ -19,6 +20,7 @@ import task.system.service.user.UserService;
 import task.system.telegram.TaskSystemBot;
 
 @Service
+@Transactional
 public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
@@ -55,6 +57,7 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CommentResponseDto> getAllByTaskId(Long taskId) {
         taskService.findById(taskId);
         return commentRepository.findAllByTaskId(taskId).stream()
@@ -72,6 +75,7 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Comment getById(Long id) {
         return commentRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Can't find comment by id: " + id)
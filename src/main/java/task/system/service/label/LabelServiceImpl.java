@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.dto.label.LabelRequestDto;
 import task.system.dto.label.LabelResponseDto;
 import task.system.dto.label.LabelUpdateRequestDto;
@@ -15,6 +16,7 @@ import task.system.repository.label.LabelRepository;
 import task.system.service.project.ProjectService;
 
 @Service
+@Transactional
 public class LabelServiceImpl implements LabelService {
     private final LabelRepository labelRepository;
     private final LabelMapper labelMapper;
@@ -53,6 +55,7 @@ public class LabelServiceImpl implements LabelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<LabelResponseDto> getAllByProjectId(Long projectId) {
         projectService.getById(projectId);
 
@@ -63,6 +66,7 @@ public class LabelServiceImpl implements LabelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public LabelResponseDto getById(Long id) {
         Label labelById = getLabelById(id);
         projectService.getById(labelById.getProjectId());
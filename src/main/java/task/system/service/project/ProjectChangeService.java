@@ -0,0 +1,9 @@
+package task.system.service.project;
+
+import task.system.dto.project.ProjectChangesResponseDto;
+
+public interface ProjectChangeService {
+    ProjectChangesResponseDto getChanges(Long projectId, Long since);
+
+    void compact();
+}
@@ -0,0 +1,98 @@
+package task.system.service.project;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import task.system.dto.project.ProjectChangesResponseDto;
+import task.system.exception.DataProcessingException;
+import task.system.mapper.ProjectChangeMapper;
+import task.system.model.ProjectChange;
+import task.system.repository.project.ProjectChangeRepository;
+import task.system.service.user.UserService;
+
+@Service
+@Transactional
+public class ProjectChangeServiceImpl implements ProjectChangeService {
+    private static final Logger LOGGER = LogManager.getLogger(ProjectChangeServiceImpl.class);
+
+    private final ProjectChangeRepository projectChangeRepository;
+    private final ProjectChangeMapper projectChangeMapper;
+    private final ProjectService projectService;
+    private final UserService userService;
+    private final int pageSize;
+    private final long retention;
+
+    public ProjectChangeServiceImpl(
+            ProjectChangeRepository projectChangeRepository,
+            ProjectChangeMapper projectChangeMapper,
+            ProjectService projectService,
+            UserService userService,
+            @Value("${project.changes.page-size:500}") int pageSize,
+            @Value("${project.changes.retention:604800000}") long retention
+    ) {
+        this.projectChangeRepository = projectChangeRepository;
+        this.projectChangeMapper = projectChangeMapper;
+        this.projectService = projectService;
+        this.userService = userService;
+        this.pageSize = pageSize;
+        this.retention = retention;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectChangesResponseDto getChanges(Long projectId, Long since) {
+        Long userId = userService.getAuthenticatedUser().getId();
+
+        if (!projectService.isUser(projectId, userId)) {
+            throw new DataProcessingException("You can only get your projects! "
+                    + "The project under this id: " + projectId + " is not yours.");
+        }
+
+        List<ProjectChange> changes = projectChangeRepository.findAllByProjectIdAfter(
+                projectId, since, pageSize + 1
+        );
+        long lastSequence = projectChangeRepository.findLastSequence().orElse(0L);
+        ProjectChangesResponseDto response = new ProjectChangesResponseDto();
+
+        if (isCompactedAfter(since)) {
+            response.setChanges(List.of());
+            response.setNext(lastSequence);
+            response.setResyncRequired(true);
+            return response;
+        }
+
+        boolean hasMore = changes.size() > pageSize;
+        List<ProjectChange> page = hasMore ? changes.subList(0, pageSize) : changes;
+        response.setChanges(page.stream()
+                .map(projectChangeMapper::toDto)
+                .toList());
+        response.setHasMore(hasMore);
+        response.setNext(hasMore
+                ? page.get(page.size() - 1).getId()
+                : Math.max(since, lastSequence));
+        return response;
+    }
+
+    @Override
+    @Scheduled(
+            initialDelayString = "${project.changes.compaction-interval:3600000}",
+            fixedDelayString = "${project.changes.compaction-interval:3600000}"
+    )
+    public void compact() {
+        LocalDateTime timestamp = LocalDateTime.now().minus(retention, ChronoUnit.MILLIS);
+        int deleted = projectChangeRepository.deleteAllBefore(timestamp);
+        LOGGER.info("Compacted {} project changes before {}", deleted, timestamp);
+    }
+
+    private boolean isCompactedAfter(Long since) {
+        return projectChangeRepository.findFirstSequence()
+                .filter(firstSequence -> since < firstSequence - 1)
+                .isPresent();
+    }
+}
@@ -0,0 +1,35 @@
+package task.system.service.project;
+
+import java.util.Collection;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+public final class ProjectMembership {
+    private final Roaring64Bitmap userIds;
+    private final Roaring64Bitmap administratorIds;
+
+    private ProjectMembership(Roaring64Bitmap userIds, Roaring64Bitmap administratorIds) {
+        this.userIds = userIds;
+        this.administratorIds = administratorIds;
+    }
+
+    public static ProjectMembership of(
+            Collection<Long> userIds, Collection<Long> administratorIds
+    ) {
+        return new ProjectMembership(toBitmap(userIds), toBitmap(administratorIds));
+    }
+
+    public boolean isUser(Long userId) {
+        return userId != null && userIds.contains(userId);
+    }
+
+    public boolean isAdministrator(Long userId) {
+        return userId != null && administratorIds.contains(userId);
+    }
+
+    private static Roaring64Bitmap toBitmap(Collection<Long> ids) {
+        Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        ids.forEach(bitmap::addLong);
+        bitmap.runOptimize();
+        return bitmap;
+    }
+}
@@ -0,0 +1,121 @@
+package task.system.service.project;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import task.system.model.Project;
+import task.system.model.User;
+import task.system.security.ExpiringCache;
+
+/**
+ * Membership of recently checked projects. Entries expire after the configured ttl, which
+ * bounds how long a change committed by another instance can go unnoticed. Within this
+ * instance every committed change bumps the version of the project, and a membership loaded
+ * before the change is not cached: callers take {@link #getVersion} before reading the
+ * members and pass it to {@link #putIfCurrent}.
+ */
+@Component
+public class ProjectMembershipIndex {
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ExpiringCache<Long, ProjectMembership> memberships;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final boolean enabled;
+    private final long ttl;
+
+    public ProjectMembershipIndex(
+            @Value("${project.membership-index.enabled:true}") boolean enabled,
+            @Value("${project.membership-index.ttl:60000}") long ttl,
+            @Value("${project.membership-index.max-size:100000}") int maxSize
+    ) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.memberships = new ExpiringCache<>(maxSize);
+    }
+
+    public Optional<ProjectMembership> get(Long projectId) {
+        return enabled ? memberships.get(projectId) : Optional.empty();
+    }
+
+    public long getVersion(Long projectId) {
+        return versions.get(stripe(projectId));
+    }
+
+    public void putIfCurrent(Long projectId, long version, ProjectMembership membership) {
+        if (!enabled || getVersion(projectId) != version) {
+            return;
+        }
+
+        memberships.put(projectId, membership, Instant.now().plusMillis(ttl));
+
+        if (getVersion(projectId) != version) {
+            memberships.evict(projectId);
+        }
+    }
+
+    public void putAfterCommit(Project project) {
+        if (!enabled) {
+            return;
+        }
+
+        putAfterCommit(project.getId(), toMembership(project));
+    }
+
+    public void putAfterCommit(Long projectId, ProjectMembership membership) {
+        if (!enabled) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            versions.incrementAndGet(stripe(projectId));
+            memberships.put(projectId, membership, Instant.now().plusMillis(ttl));
+        });
+    }
+
+    public void evictAfterCommit(Long projectId) {
+        if (!enabled) {
+            return;
+        }
+
+        runAfterCommit(() -> {
+            versions.incrementAndGet(stripe(projectId));
+            memberships.evict(projectId);
+        });
+    }
+
+    private int stripe(Long projectId) {
+        return Math.floorMod(Long.hashCode(projectId), VERSION_STRIPES);
+    }
+
+    private ProjectMembership toMembership(Project project) {
+        return ProjectMembership.of(
+                project.getUsers().stream()
+                        .map(User::getId)
+                        .collect(Collectors.toSet()),
+                project.getAdministrators().stream()
+                        .map(User::getId)
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package task.system.service.project;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import task.system.dto.project.ProjectDetailsResponseDto;
+
+@Component
+public class ProjectRequestCache {
+    private static final String ENTRIES_ATTRIBUTE =
+            ProjectRequestCache.class.getName() + ".ENTRIES";
+
+    public Optional<ProjectDetailsResponseDto> get(Long projectId) {
+        return Optional.ofNullable(getEntries())
+                .map(entries -> entries.projects.get(projectId));
+    }
+
+    public void put(Long projectId, ProjectDetailsResponseDto project) {
+        Entries entries = getEntries();
+
+        if (entries != null) {
+            entries.projects.put(projectId, project);
+            entries.loads.merge(projectId, 1, Integer::sum);
+        }
+    }
+
+    public void evict(Long projectId) {
+        Entries entries = getEntries();
+
+        if (entries != null) {
+            entries.projects.remove(projectId);
+        }
+    }
+
+    public int getLoadCount(Long projectId) {
+        Entries entries = getEntries();
+        return entries == null ? 0 : entries.loads.getOrDefault(projectId, 0);
+    }
+
+    private Entries getEntries() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return null;
+        }
+
+        Entries entries = (Entries) attributes.getAttribute(
+                ENTRIES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST
+        );
+
+        if (entries == null) {
+            entries = new Entries();
+            attributes.setAttribute(ENTRIES_ATTRIBUTE, entries, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return entries;
+    }
+
+    private static class Entries {
+        private final Map<Long, ProjectDetailsResponseDto> projects = new HashMap<>();
+        private final Map<Long, Integer> loads = new HashMap<>();
+    }
+}
@@ -3,6 +3,8 @@ package task.system.service.project;
 import java.util.List;
 import task.system.dto.project.ProjectDetailsResponseDto;
 import task.system.dto.project.ProjectLowInfoResponse;
+import task.system.dto.project.ProjectMembersRequestDto;
+import task.system.dto.project.ProjectMembersResponseDto;
 import task.system.dto.project.ProjectRequestDto;
 import task.system.dto.project.ProjectUpdateRequestDto;
 
@@ -13,7 +15,15 @@ public interface ProjectService {
 
     ProjectDetailsResponseDto getById(Long id);
 
+    boolean isUser(Long projectId, Long userId);
+
+    boolean isAdministrator(Long projectId, Long userId);
+
     ProjectDetailsResponseDto updateById(Long id, ProjectUpdateRequestDto request);
 
+    ProjectMembersResponseDto addMembers(Long id, ProjectMembersRequestDto request);
+
+    ProjectMembersResponseDto removeMembers(Long id, ProjectMembersRequestDto request);
+
     void deleteById(Long id);
 }
@@ -1,13 +1,19 @@
 package task.system.service.project;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.dto.project.ProjectDetailsResponseDto;
 import task.system.dto.project.ProjectLowInfoResponse;
+import task.system.dto.project.ProjectMembersRequestDto;
+import task.system.dto.project.ProjectMembersResponseDto;
 import task.system.dto.project.ProjectRequestDto;
 import task.system.dto.project.ProjectUpdateRequestDto;
 import task.system.exception.DataProcessingException;
@@ -20,73 +26,97 @@ import task.system.service.user.UserService;
 import task.system.telegram.TaskSystemBot;
 
 @Service
+@Transactional
 public class ProjectServiceImpl implements ProjectService {
     private static final String ACCESS_USER = "user";
     private static final String ACCESS_ADMINISTRATOR = "administrator";
+    private static final String ADDED_MESSAGE =
+            "You have been added to the project participants.";
 
     private final ProjectMapper projectMapper;
     private final UserService userService;
     private final ProjectRepository projectRepository;
     private final TaskSystemBot taskSystemBot;
+    private final ProjectRequestCache projectRequestCache;
+    private final ProjectMembershipIndex projectMembershipIndex;
 
     public ProjectServiceImpl(
             ProjectMapper projectMapper,
             UserService userService,
-            ProjectRepository projectRepository, TaskSystemBot taskSystemBot) {
+            ProjectRepository projectRepository, TaskSystemBot taskSystemBot,
+            ProjectRequestCache projectRequestCache,
+            ProjectMembershipIndex projectMembershipIndex) {
         this.projectMapper = projectMapper;
         this.userService = userService;
         this.projectRepository = projectRepository;
         this.taskSystemBot = taskSystemBot;
+        this.projectRequestCache = projectRequestCache;
+        this.projectMembershipIndex = projectMembershipIndex;
     }
 
     @Override
     public ProjectDetailsResponseDto create(ProjectRequestDto request) {
-        getUsersFromDbFromRequest(request.getUsers());
-        getUsersFromDbFromRequest(request.getAdministrators());
         checkValidDate(request.getStartDate(), request.getEndDate());
-
         Project project = projectMapper.toEntity(request);
         User user = userService.getAuthenticatedUser();
+        Map<Long, User> usersFromDb =
+                getUsersFromDbFromRequest(request.getUsers(), request.getAdministrators());
         project.setMainUser(user);
 
-        Set<User> administratorsFromRequest =
-                getUsersFromDbFromRequest(request.getAdministrators());
         Set<User> administrators = project.getAdministrators();
+        administrators.addAll(getUsersByIds(usersFromDb, request.getAdministrators()));
         administrators.add(user);
-        administrators.addAll(administratorsFromRequest);
-        Set<User> usersFromRequest = getUsersFromDbFromRequest(request.getUsers());
         Set<User> users = project.getUsers();
         users.addAll(administrators);
-        users.addAll(usersFromRequest);
+        users.addAll(getUsersByIds(usersFromDb, request.getUsers()));
 
         Project savedProject = projectRepository.save(project);
-        String telegramMessage = "You have been added to the project participants."
-                + System.lineSeparator() + "Project: " + savedProject.getName();
+        projectMembershipIndex.putAfterCommit(savedProject);
+        String telegramMessage = ADDED_MESSAGE + System.lineSeparator()
+                + "Project: " + savedProject.getName();
         taskSystemBot.sendMessage(telegramMessage, savedProject.getUsers());
         return projectMapper.toDto(savedProject);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectLowInfoResponse> getAllUserProjects() {
         Long id = userService.getAuthenticatedUser().getId();
-        return projectRepository.findAllProjectsByUserId(id)
-                .stream().map(projectMapper::toLowInfoDto)
-                .collect(Collectors.toList());
+        return projectRepository.findAllLowInfoByUserId(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProjectDetailsResponseDto getById(Long id) {
-        Project projectById = findProjectById(id);
-        checkingUserAccess(ACCESS_USER, id, projectById.getUsers());
-        return projectMapper.toDto(projectById);
+        Optional<ProjectDetailsResponseDto> cachedProject = projectRequestCache.get(id);
+
+        if (cachedProject.isPresent()) {
+            return cachedProject.get();
+        }
+
+        long version = projectMembershipIndex.getVersion(id);
+        ProjectDetailsResponseDto projectDetails = findProjectDetailsById(id);
+        checkingUserAccess(ACCESS_USER, id, getMembership(projectDetails, version));
+        projectRequestCache.put(id, projectDetails);
+        return projectDetails;
     }
 
     @Override
-    public ProjectDetailsResponseDto updateById(Long id, ProjectUpdateRequestDto request) {
-        Project project = findProjectById(id);
+    @Transactional(readOnly = true)
+    public boolean isUser(Long projectId, Long userId) {
+        return getMembership(projectId).isUser(userId);
+    }
 
-        checkingUserAccess(ACCESS_USER, id, project.getUsers());
-        checkingUserAccess(ACCESS_ADMINISTRATOR, id, project.getAdministrators());
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isAdministrator(Long projectId, Long userId) {
+        return getMembership(projectId).isAdministrator(userId);
+    }
+
+    @Override
+    public ProjectDetailsResponseDto updateById(Long id, ProjectUpdateRequestDto request) {
+        Project project = findProjectHeaderById(id);
+        checkingAdministratorAccess(id);
 
         Optional.ofNullable(request.getName())
                 .filter(name -> !name.equals(project.getName()))
@@ -113,34 +143,72 @@ public class ProjectServiceImpl implements ProjectService {
         Optional.ofNullable(request.getStatus())
                 .filter(status -> !status.equals(project.getStatus()))
                 .ifPresent(project::setStatus);
-        Optional.ofNullable(request.getAdministrators())
-                .ifPresent(admins -> {
-                    Set<User> usersFromDbFromRequest = getUsersFromDbFromRequest(admins);
-                    project.getAdministrators().addAll(usersFromDbFromRequest);
-                    project.getUsers().addAll(usersFromDbFromRequest);
-                });
-        Optional.ofNullable(request.getUsers())
-                .ifPresent(users -> {
-                    Set<User> usersFromDbFromRequest = getUsersFromDbFromRequest(users);
-                    project.getUsers().addAll(usersFromDbFromRequest);
-                });
-
-        Project projectFromDb = findProjectById(id);
         Project updatedProject = projectRepository.update(project);
-        ProjectDetailsResponseDto responseDto = projectMapper.toDto(updatedProject);
-        createAndSendMessageToTelegramNewUser(projectFromDb, updatedProject);
+        Set<Long> addedUserIds = insertMembers(
+                id, request.getUsers(), request.getAdministrators()
+        ).getUserIds();
+        Set<Long> userIds = new HashSet<>(projectRepository.findUserIdsByProjectId(id));
+        Set<Long> administratorIds =
+                new HashSet<>(projectRepository.findAdministratorIdsByProjectId(id));
+        projectRequestCache.evict(id);
+        projectMembershipIndex.putAfterCommit(id, ProjectMembership.of(userIds, administratorIds));
+        sendMessageToNewMembers(updatedProject, addedUserIds);
+        Set<Long> previousUserIds = new HashSet<>(userIds);
+        previousUserIds.removeAll(addedUserIds);
         String updateMessage = "The details of the project have been updated"
                 + System.lineSeparator() + "Project: " + project.getName();
-        taskSystemBot.sendMessage(updateMessage, projectFromDb.getUsers());
-        return responseDto;
+        taskSystemBot.sendMessage(updateMessage, previousUserIds);
+        return projectMapper.toDto(updatedProject, userIds, administratorIds);
+    }
+
+    @Override
+    public ProjectMembersResponseDto addMembers(Long id, ProjectMembersRequestDto request) {
+        Project project = findProjectHeaderById(id);
+        checkingAdministratorAccess(id);
+
+        ProjectMembersResponseDto response =
+                insertMembers(id, request.getUsers(), request.getAdministrators());
+        sendMessageToNewMembers(project, response.getUserIds());
+        projectRequestCache.evict(id);
+        projectMembershipIndex.evictAfterCommit(id);
+        return response;
+    }
+
+    @Override
+    public ProjectMembersResponseDto removeMembers(Long id, ProjectMembersRequestDto request) {
+        Project project = findProjectHeaderById(id);
+        checkingAdministratorAccess(id);
+        Long mainUserId = project.getMainUser().getId();
+
+        if (request.getUsers().contains(mainUserId)
+                || request.getAdministrators().contains(mainUserId)) {
+            throw new DataProcessingException(
+                    "You cannot remove the main user from the project"
+            );
+        }
+
+        Set<Long> administratorIds = new HashSet<>(request.getAdministrators());
+        administratorIds.addAll(request.getUsers());
+        ProjectMembersResponseDto response = new ProjectMembersResponseDto();
+        response.setAdministratorIds(
+                projectRepository.removeAdministrators(id, administratorIds)
+        );
+        response.setUserIds(projectRepository.removeUsers(id, request.getUsers()));
+        projectRequestCache.evict(id);
+        projectMembershipIndex.evictAfterCommit(id);
+        String telegramMessage = "You have been removed from the project participants."
+                + System.lineSeparator() + "Project: " + project.getName();
+        taskSystemBot.sendMessage(telegramMessage, response.getUserIds());
+        return response;
     }
 
     @Override
     public void deleteById(Long id) {
-        Project project = findProjectById(id);
-        checkingUserAccess(ACCESS_USER, id, project.getUsers());
+        long version = projectMembershipIndex.getVersion(id);
+        ProjectDetailsResponseDto project = findProjectDetailsById(id);
+        checkingUserAccess(ACCESS_USER, id, getMembership(project, version));
 
-        if (!project.getMainUser().getId().equals(userService.getAuthenticatedUser().getId())) {
+        if (!project.getMainUser().equals(userService.getAuthenticatedUser().getId())) {
             throw new DataProcessingException(
                     "You cannot delete this project, only the main user can do that"
             );
@@ -148,21 +216,72 @@ public class ProjectServiceImpl implements ProjectService {
 
         String deleteMessage = "The project has been deleted" + System.lineSeparator()
                 + "Project: " + project.getName();
-        taskSystemBot.sendMessage(deleteMessage, project.getUsers());
+        taskSystemBot.sendMessage(deleteMessage, project.getUserIds());
         projectRepository.deleteById(id);
+        projectRequestCache.evict(id);
+        projectMembershipIndex.evictAfterCommit(id);
+    }
+
+    private Map<Long, User> getUsersFromDbFromRequest(
+            Set<Long> userIds, Set<Long> administratorIds
+    ) {
+        Set<Long> ids = new HashSet<>();
+        Optional.ofNullable(userIds).ifPresent(ids::addAll);
+        Optional.ofNullable(administratorIds).ifPresent(ids::addAll);
+        return userService.getAllByIds(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
     }
 
-    private Set<User> getUsersFromDbFromRequest(Set<Long> userIds) {
-        return userIds.stream()
-                .map(userService::getById)
+    private ProjectMembersResponseDto insertMembers(
+            Long id, Set<Long> userIds, Set<Long> administratorIds
+    ) {
+        Set<Long> memberIds = getUsersFromDbFromRequest(userIds, administratorIds).keySet();
+        ProjectMembersResponseDto response = new ProjectMembersResponseDto();
+        response.setUserIds(projectRepository.addUsers(id, memberIds));
+        response.setAdministratorIds(projectRepository.addAdministrators(
+                id, Optional.ofNullable(administratorIds).orElse(Set.of())
+        ));
+        return response;
+    }
+
+    private Set<User> getUsersByIds(Map<Long, User> usersFromDb, Set<Long> userIds) {
+        return Optional.ofNullable(userIds).orElse(Set.of()).stream()
+                .map(usersFromDb::get)
                 .collect(Collectors.toSet());
     }
 
-    private void checkingUserAccess(String mainUserOrUser, Long id, Set<User> users) {
+    private ProjectMembership getMembership(Long projectId) {
+        return projectMembershipIndex.get(projectId).orElseGet(() -> {
+            long version = projectMembershipIndex.getVersion(projectId);
+            List<Long> userIds = projectRepository.findUserIdsByProjectId(projectId);
+
+            if (userIds.isEmpty()) {
+                return ProjectMembership.of(userIds, userIds);
+            }
+
+            ProjectMembership membership = ProjectMembership.of(
+                    userIds, projectRepository.findAdministratorIdsByProjectId(projectId)
+            );
+            projectMembershipIndex.putIfCurrent(projectId, version, membership);
+            return membership;
+        });
+    }
+
+    private ProjectMembership getMembership(ProjectDetailsResponseDto project, long version) {
+        ProjectMembership membership =
+                ProjectMembership.of(project.getUserIds(), project.getAdministratorIds());
+        projectMembershipIndex.putIfCurrent(project.getId(), version, membership);
+        return membership;
+    }
+
+    private void checkingUserAccess(String mainUserOrUser, Long id, ProjectMembership membership) {
         User user = userService.getAuthenticatedUser();
+        boolean hasAccess = mainUserOrUser.equals(ACCESS_ADMINISTRATOR)
+                ? membership.isAdministrator(user.getId())
+                : membership.isUser(user.getId());
         String message;
 
-        if (users.stream().noneMatch(us -> us.equals(user))) {
+        if (!hasAccess) {
             if (mainUserOrUser.equals(ACCESS_ADMINISTRATOR)) {
                 message = "You are not the administrator of this project,"
                         + " you have no rights to update the project";
@@ -175,29 +294,30 @@ public class ProjectServiceImpl implements ProjectService {
         }
     }
 
-    private Project findProjectById(Long id) {
-        return projectRepository.findById(id).orElseThrow(
+    private void checkingAdministratorAccess(Long id) {
+        ProjectMembership membership = getMembership(id);
+        checkingUserAccess(ACCESS_USER, id, membership);
+        checkingUserAccess(ACCESS_ADMINISTRATOR, id, membership);
+    }
+
+    private Project findProjectHeaderById(Long id) {
+        return projectRepository.findHeaderById(id).orElseThrow(
                 () -> new EntityNotFoundException("Can't find project by id: " + id)
         );
     }
 
-    private void createAndSendMessageToTelegramNewUser(Project project, Project updatedProject) {
-        Set<User> usersProject = project.getUsers();
-        Set<User> usersUpdatedProjects = updatedProject.getUsers();
-        String telegramMessage = "You have been added to the project participants."
-                + System.lineSeparator() + "Project: " + updatedProject.getName();
-
-        if (usersProject.isEmpty() && !usersUpdatedProjects.isEmpty()) {
-            taskSystemBot.sendMessage(telegramMessage, usersUpdatedProjects);
-        }
-
-        if (!usersProject.isEmpty()) {
-            usersUpdatedProjects.removeAll(usersProject);
+    private ProjectDetailsResponseDto findProjectDetailsById(Long id) {
+        Project project = findProjectHeaderById(id);
+        return projectMapper.toDto(project,
+                new HashSet<>(projectRepository.findUserIdsByProjectId(id)),
+                new HashSet<>(projectRepository.findAdministratorIdsByProjectId(id))
+        );
+    }
 
-            if (!usersUpdatedProjects.isEmpty()) {
-                taskSystemBot.sendMessage(telegramMessage, usersUpdatedProjects);
-            }
-        }
+    private void sendMessageToNewMembers(Project project, Set<Long> addedUserIds) {
+        String telegramMessage = ADDED_MESSAGE + System.lineSeparator()
+                + "Project: " + project.getName();
+        taskSystemBot.sendMessage(telegramMessage, addedUserIds);
     }
 
     private boolean checkValidDate(LocalDate startDate, LocalDate endDate) {
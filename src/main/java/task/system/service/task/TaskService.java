@@ -1,22 +1,32 @@
 package task.system.service.task;
 
-import java.util.List;
+import task.system.dto.task.TaskBatchCreateRequestDto;
+import task.system.dto.task.TaskBatchDeleteRequestDto;
+import task.system.dto.task.TaskBatchResponseDto;
+import task.system.dto.task.TaskBatchUpdateRequestDto;
 import task.system.dto.task.TaskCreateRequestDto;
 import task.system.dto.task.TaskFullDetailsDto;
-import task.system.dto.task.TaskLowDetailsDto;
+import task.system.dto.task.TaskPageResponseDto;
+import task.system.dto.task.TaskSearchParameters;
 import task.system.dto.task.TaskUpdateRequestDto;
 import task.system.model.Task;
 
 public interface TaskService {
     TaskFullDetailsDto create(TaskCreateRequestDto request);
 
-    List<TaskLowDetailsDto> getAll(Long projectId);
+    TaskBatchResponseDto createAll(TaskBatchCreateRequestDto request);
+
+    TaskPageResponseDto getAll(Long projectId, TaskSearchParameters parameters);
 
     TaskFullDetailsDto getById(Long id);
 
     TaskFullDetailsDto updateById(Long id, TaskUpdateRequestDto request);
 
+    TaskBatchResponseDto updateAll(TaskBatchUpdateRequestDto request);
+
     void deleteById(Long id);
 
+    TaskBatchResponseDto deleteAll(TaskBatchDeleteRequestDto request);
+
     Task findById(Long id);
 }
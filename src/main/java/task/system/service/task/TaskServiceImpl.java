@@ -1,15 +1,33 @@
 package task.system.service.task;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.dto.project.ProjectDetailsResponseDto;
+import task.system.dto.task.TaskBatchCreateRequestDto;
+import task.system.dto.task.TaskBatchDeleteRequestDto;
+import task.system.dto.task.TaskBatchResponseDto;
+import task.system.dto.task.TaskBatchUpdateItemDto;
+import task.system.dto.task.TaskBatchUpdateRequestDto;
 import task.system.dto.task.TaskCreateRequestDto;
+import task.system.dto.task.TaskCursor;
 import task.system.dto.task.TaskFullDetailsDto;
-import task.system.dto.task.TaskLowDetailsDto;
+import task.system.dto.task.TaskPageItem;
+import task.system.dto.task.TaskPageResponseDto;
+import task.system.dto.task.TaskSearchParameters;
 import task.system.dto.task.TaskUpdateRequestDto;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
@@ -22,7 +40,10 @@ import task.system.service.user.UserService;
 import task.system.telegram.TaskSystemBot;
 
 @Service
+@Transactional
 public class TaskServiceImpl implements TaskService {
+    private static final String CURSOR_SEPARATOR = "_";
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final UserService userService;
@@ -53,14 +74,46 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public List<TaskLowDetailsDto> getAll(Long projectId) {
+    public TaskBatchResponseDto createAll(TaskBatchCreateRequestDto request) {
+        Map<Long, ProjectDetailsResponseDto> projects = new HashMap<>();
+
+        for (TaskCreateRequestDto taskRequest : request.getTasks()) {
+            ProjectDetailsResponseDto project = projects.computeIfAbsent(
+                    taskRequest.getProjectId(), projectService::getById
+            );
+            checkDueDate(taskRequest.getDueDate(), project);
+            checkAssigneeInProject(project, taskRequest.getAssigneeId());
+        }
+
+        List<Task> tasks = request.getTasks().stream()
+                .map(taskMapper::toEntity)
+                .collect(Collectors.toList());
+        int rowsInserted = taskRepository.saveAll(tasks);
+        sendGroupedMessages("You are assigned tasks", tasks, projects);
+        return createBatchResponse(rowsInserted, tasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponseDto getAll(Long projectId, TaskSearchParameters parameters) {
         ProjectDetailsResponseDto projectDetails = projectService.getById(projectId);
-        return taskRepository.findAllByProjectId(projectDetails.getId()).stream()
+        int size = parameters.getSize();
+        List<TaskPageItem> tasks = taskRepository.findPageByProjectId(
+                projectDetails.getId(), parameters, decodeCursor(parameters.getCursor()), size + 1
+        );
+        boolean hasNextPage = tasks.size() > size;
+        List<TaskPageItem> page = hasNextPage ? tasks.subList(0, size) : tasks;
+
+        TaskPageResponseDto response = new TaskPageResponseDto();
+        response.setTasks(page.stream()
                 .map(taskMapper::toLowDetailsDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+        response.setNextCursor(hasNextPage ? encodeCursor(page.get(page.size() - 1)) : null);
+        return response;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskFullDetailsDto getById(Long id) {
         return taskMapper.toFullDetailsDto(findById(id));
     }
@@ -110,6 +163,35 @@ public class TaskServiceImpl implements TaskService {
         return taskMapper.toFullDetailsDto(updatedTask);
     }
 
+    @Override
+    public TaskBatchResponseDto updateAll(TaskBatchUpdateRequestDto request) {
+        Map<Long, TaskBatchUpdateItemDto> requests = new LinkedHashMap<>();
+        Set<Long> duplicateIds = new LinkedHashSet<>();
+
+        for (TaskBatchUpdateItemDto item : request.getTasks()) {
+            if (requests.putIfAbsent(item.getId(), item) != null) {
+                duplicateIds.add(item.getId());
+            }
+        }
+
+        if (!duplicateIds.isEmpty()) {
+            throw new DataProcessingException("Each task can be updated only once per batch, "
+                    + "duplicate ids: " + duplicateIds);
+        }
+
+        List<Task> tasks = findAllForBatch(requests.keySet());
+        Map<Long, ProjectDetailsResponseDto> projects = checkingAdministratorAccess(tasks).stream()
+                .collect(Collectors.toMap(Function.identity(), projectService::getById));
+
+        for (Task task : tasks) {
+            applyChanges(task, requests.get(task.getId()), projects.get(task.getProjectId()));
+        }
+
+        int rowsUpdated = taskRepository.updateAll(tasks);
+        sendGroupedMessages("The details of tasks have been updated", tasks, projects);
+        return createBatchResponse(rowsUpdated, tasks);
+    }
+
     @Override
     public void deleteById(Long id) {
         Task taskFromDb = findById(id);
@@ -118,6 +200,15 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    public TaskBatchResponseDto deleteAll(TaskBatchDeleteRequestDto request) {
+        List<Task> tasks = findAllForBatch(request.getIds());
+        checkingAdministratorAccess(tasks);
+        int deletedRows = taskRepository.deleteAllByIds(request.getIds());
+        return createBatchResponse(deletedRows, tasks);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Task findById(Long id) {
         Task task = taskRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Can't find task by id: " + id)
@@ -126,6 +217,91 @@ public class TaskServiceImpl implements TaskService {
         return task;
     }
 
+    private String encodeCursor(TaskPageItem task) {
+        String cursor = task.dueDate() + CURSOR_SEPARATOR + task.id();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private TaskCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8).split(CURSOR_SEPARATOR);
+            return new TaskCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new DataProcessingException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private List<Task> findAllForBatch(Collection<Long> ids) {
+        List<Task> tasks = taskRepository.findAllByIds(ids);
+
+        if (tasks.size() != ids.size()) {
+            Set<Long> foundIds = tasks.stream()
+                    .map(Task::getId)
+                    .collect(Collectors.toSet());
+            List<Long> missingIds = ids.stream()
+                    .filter(id -> !foundIds.contains(id))
+                    .toList();
+            throw new EntityNotFoundException("Can't find tasks by ids: " + missingIds);
+        }
+
+        return tasks;
+    }
+
+    private void applyChanges(
+            Task task, TaskUpdateRequestDto request, ProjectDetailsResponseDto project
+    ) {
+        Optional.ofNullable(request.getName()).ifPresent(task::setName);
+        Optional.ofNullable(request.getDescription()).ifPresent(task::setDescription);
+        Optional.ofNullable(request.getPriority()).ifPresent(task::setPriority);
+        Optional.ofNullable(request.getStatus()).ifPresent(task::setStatus);
+        Optional.ofNullable(request.getDueDate())
+                .ifPresent(dueDate -> {
+                    checkDueDate(dueDate, project);
+                    task.setDueDate(dueDate);
+                });
+        Optional.ofNullable(request.getAssigneeId())
+                .ifPresent(assigneeId -> {
+                    checkAssigneeInProject(project, assigneeId);
+                    task.setAssigneeId(assigneeId);
+                });
+    }
+
+    private void sendGroupedMessages(
+            String title, List<Task> tasks, Map<Long, ProjectDetailsResponseDto> projects
+    ) {
+        Map<Long, List<Task>> tasksByAssignee = tasks.stream()
+                .filter(task -> task.getAssigneeId() != null)
+                .collect(Collectors.groupingBy(Task::getAssigneeId));
+        tasksByAssignee.forEach((assigneeId, assignedTasks) -> {
+            StringBuilder telegramMessage = new StringBuilder(title).append(": ")
+                    .append(assignedTasks.size());
+
+            for (Task task : assignedTasks) {
+                telegramMessage.append(System.lineSeparator())
+                        .append("Task: ").append(task.getName())
+                        .append(", project: ")
+                        .append(projects.get(task.getProjectId()).getName());
+            }
+
+            taskSystemBot.sendMessage(telegramMessage.toString(), assigneeId);
+        });
+    }
+
+    private TaskBatchResponseDto createBatchResponse(int rowCount, List<Task> tasks) {
+        TaskBatchResponseDto response = new TaskBatchResponseDto();
+        response.setRowCount(rowCount);
+        response.setTaskIds(tasks.stream()
+                .map(Task::getId)
+                .collect(Collectors.toList()));
+        return response;
+    }
+
     private void generateTaskAssignmentMessageAndSend(Task task) {
         if (task.getAssigneeId() != null) {
             ProjectDetailsResponseDto project = projectService.getById(
@@ -140,12 +316,21 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
-    private void checkingAdministratorAccess(Long projectId) {
-        ProjectDetailsResponseDto projectDetails = projectService.getById(projectId);
+    private Set<Long> checkingAdministratorAccess(List<Task> tasks) {
         User user = userService.getAuthenticatedUser();
-        Set<Long> administratorIds = projectDetails.getAdministratorIds();
+        Set<Long> projectIds = tasks.stream()
+                .map(Task::getProjectId)
+                .collect(Collectors.toSet());
+        projectIds.forEach(projectId -> checkingAdministratorAccess(projectId, user));
+        return projectIds;
+    }
 
-        if (administratorIds.stream().noneMatch(id -> id.equals(user.getId()))) {
+    private void checkingAdministratorAccess(Long projectId) {
+        checkingAdministratorAccess(projectId, userService.getAuthenticatedUser());
+    }
+
+    private void checkingAdministratorAccess(Long projectId, User user) {
+        if (!projectService.isAdministrator(projectId, user.getId())) {
             throw new DataProcessingException(
                     "Only administrators have access to the update, the user with ID: "
                             + user.getId() + " is not an administrator"
@@ -160,18 +345,25 @@ public class TaskServiceImpl implements TaskService {
             throw new EntityNotFoundException("Can't find user by id: " + assigneeId);
         }
 
+        checkAssigneeInProject(projectDetails, assigneeId);
+    }
+
+    private void checkAssigneeInProject(ProjectDetailsResponseDto projectDetails, Long assigneeId) {
         if (assigneeId != null
                 && projectDetails.getUserIds().stream().noneMatch(id -> id.equals(assigneeId))) {
             throw new DataProcessingException(
                     "The user with ID: " + assigneeId + " cannot be assigned as assignee user "
-                            + "because it does not exist in the project with ID: " + projectId
+                            + "because it does not exist in the project with ID: "
+                            + projectDetails.getId()
                             + ". Add this user to the project or choose another one.");
         }
     }
 
     private void checkDueDate(LocalDate dueDate, Long projectId) {
-        ProjectDetailsResponseDto projectDetails = projectService.getById(projectId);
+        checkDueDate(dueDate, projectService.getById(projectId));
+    }
 
+    private void checkDueDate(LocalDate dueDate, ProjectDetailsResponseDto projectDetails) {
         if (dueDate.isAfter(projectDetails.getEndDate())
                 || dueDate.isBefore(projectDetails.getStartDate())
         ) {
@@ -1,5 +1,7 @@
 package task.system.service.user;
 
+import java.util.Collection;
+import java.util.List;
 import task.system.dto.user.UserRegisterRequestDto;
 import task.system.dto.user.UserResponseDto;
 import task.system.dto.user.UserUpdateProfileRequest;
@@ -18,5 +20,7 @@ public interface UserService {
 
     User getById(Long id);
 
+    List<User> getAllByIds(Collection<Long> ids);
+
     boolean existsById(Long id);
 }
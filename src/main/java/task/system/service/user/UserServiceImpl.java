@@ -1,8 +1,11 @@
 package task.system.service.user;
 
-import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +13,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.dto.user.UserRegisterRequestDto;
 import task.system.dto.user.UserResponseDto;
 import task.system.dto.user.UserUpdateProfileRequest;
@@ -21,8 +25,11 @@ import task.system.model.Role;
 import task.system.model.User;
 import task.system.repository.role.RoleRepository;
 import task.system.repository.user.UserRepository;
+import task.system.security.PrincipalCache;
+import task.system.security.UserPrincipal;
 
 @Service
+@Transactional
 public class UserServiceImpl implements UserService {
     private static final String ROLE_PREFIX = "ROLE_";
     private static final Logger LOGGER = LogManager.getLogger(UserServiceImpl.class);
@@ -33,21 +40,23 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final RoleRepository roleRepository;
+    private final PrincipalCache principalCache;
 
     @Autowired
     public UserServiceImpl(
             UserRepository userRepository,
             UserMapper userMapper,
             PasswordEncoder passwordEncoder,
-            RoleRepository roleRepository
+            RoleRepository roleRepository,
+            PrincipalCache principalCache
     ) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
         this.roleRepository = roleRepository;
+        this.principalCache = principalCache;
     }
 
-    @Transactional
     @Override
     public UserResponseDto register(final UserRegisterRequestDto requestDto) {
         if (userRepository.findByEmail(requestDto.getEmail()).isPresent()) {
@@ -70,6 +79,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserResponseDto getProfile() {
         User authenticatedUser = getAuthenticatedUser();
         return userMapper.toDto(authenticatedUser);
@@ -88,6 +98,7 @@ public class UserServiceImpl implements UserService {
 
         user.getRoles().add(role);
         User updatedUser = userRepository.updateRoleById(id, role.getName());
+        principalCache.evictAfterCompletion(id);
         LOGGER.info("User with email: {} updated role to: {}",
                 user.getEmail(), role.getName().name()
         );
@@ -96,31 +107,38 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserResponseDto updateProfile(final UserUpdateProfileRequest updateRequest) {
-        User user = getAuthenticatedUser();
-        Optional.ofNullable(updateRequest.getEmail())
-                .filter(em -> !em.equals(user.getEmail()))
-                .ifPresent(user::setEmail);
-        Optional.ofNullable(updateRequest.getPassword())
-                .filter(pwd -> !pwd.equals(user.getPassword())
-                        && Pattern.compile(PATTERN_OF_PASSWORD)
-                        .matcher(pwd)
-                        .matches())
-                .map(passwordEncoder::encode)
-                .ifPresent(user::setPassword);
-        Optional.ofNullable(updateRequest.getUsername())
-                .filter(un -> !un.equals(user.getUsername()))
-                .ifPresent(user::setUsername);
-        Optional.ofNullable(updateRequest.getFirstName())
-                .filter(fn -> !fn.equals(user.getFirstName()))
-                .ifPresent(user::setFirstName);
-        Optional.ofNullable(updateRequest.getLastName())
-                .filter(ln -> !ln.equals(user.getLastName()))
-                .ifPresent(user::setLastName);
-        userRepository.updateUser(user);
-        return userMapper.toDto(user);
+        Long userId = getAuthenticatedUser().getId();
+
+        try {
+            User user = getById(userId);
+            Optional.ofNullable(updateRequest.getEmail())
+                    .filter(em -> !em.equals(user.getEmail()))
+                    .ifPresent(user::setEmail);
+            Optional.ofNullable(updateRequest.getPassword())
+                    .filter(pwd -> !pwd.equals(user.getPassword())
+                            && Pattern.compile(PATTERN_OF_PASSWORD)
+                            .matcher(pwd)
+                            .matches())
+                    .map(passwordEncoder::encode)
+                    .ifPresent(user::setPassword);
+            Optional.ofNullable(updateRequest.getUsername())
+                    .filter(un -> !un.equals(user.getUsername()))
+                    .ifPresent(user::setUsername);
+            Optional.ofNullable(updateRequest.getFirstName())
+                    .filter(fn -> !fn.equals(user.getFirstName()))
+                    .ifPresent(user::setFirstName);
+            Optional.ofNullable(updateRequest.getLastName())
+                    .filter(ln -> !ln.equals(user.getLastName()))
+                    .ifPresent(user::setLastName);
+            userRepository.updateUser(user);
+            return userMapper.toDto(user);
+        } finally {
+            principalCache.evictAfterCompletion(userId);
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -128,6 +146,14 @@ public class UserServiceImpl implements UserService {
             throw new DataProcessingException("Unable to find authenticated user");
         }
 
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.toUser();
+        }
+
+        if (authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+
         return userRepository.findByUsername(authentication.getName()).orElseThrow(
                 () -> new EntityNotFoundException(
                         "Can't find user by username: " + authentication.getName()
@@ -136,6 +162,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getById(Long id) {
         return userRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Can't find user by id: " + id)
@@ -143,6 +170,30 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<User> getAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        List<User> users = userRepository.findAllByIds(ids);
+        Set<Long> foundIds = users.stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        List<Long> missingIds = ids.stream()
+                .distinct()
+                .filter(id -> !foundIds.contains(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("Can't find users by ids: " + missingIds);
+        }
+
+        return users;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         getById(id);
         return true;
@@ -1,10 +1,22 @@
 package task.system.telegram;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Message;
@@ -13,24 +25,44 @@ import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import task.system.exception.DataProcessingException;
 import task.system.model.User;
 import task.system.repository.user.UserRepository;
-import task.system.telegram.model.TaskSystemBotChat;
+import task.system.telegram.model.TelegramOutboxMessage;
+import task.system.telegram.repository.TelegramOutboxRepository;
 import task.system.telegram.service.TaskSystemBotService;
 
+/**
+ * Notifications go through the telegram_outbox table: sendMessage writes them in the caller's
+ * transaction and wakes the relay after commit, and the relay also polls the table, so
+ * messages of a stopped instance are sent once their lease ends. Delivery is at least once.
+ */
 @Component
 public class TaskSystemBot extends TelegramLongPollingBot {
     private static final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
 
     private final TaskSystemBotService botService;
     private final UserRepository userRepository;
+    private final TelegramNotificationDispatcher notificationDispatcher;
+    private final TelegramOutboxRepository outboxRepository;
+    private final Queue<Long> completedMessageIds = new ConcurrentLinkedQueue<>();
 
     @Value("${telegram.bot.token}")
     private String botToken;
     @Value("${telegram.bot.name}")
     private String botName;
-
-    public TaskSystemBot(TaskSystemBotService botService, UserRepository userRepository) {
+    @Value("${telegram.notifications.batch-size:100}")
+    private int batchSize;
+    @Value("${telegram.notifications.lease:600000}")
+    private long lease;
+
+    public TaskSystemBot(
+            TaskSystemBotService botService,
+            UserRepository userRepository,
+            TelegramNotificationDispatcher notificationDispatcher,
+            TelegramOutboxRepository outboxRepository
+    ) {
         this.botService = botService;
         this.userRepository = userRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.outboxRepository = outboxRepository;
     }
 
     @Override
@@ -56,40 +88,91 @@ public class TaskSystemBot extends TelegramLongPollingBot {
     }
 
     public void sendMessage(String text, Long userId) {
-        if (text != null && !text.isEmpty()) {
-            if (botService.existsById(userId)) {
-                TaskSystemBotChat botChat = botService.findByUserId(userId);
-                SendMessage sendMessage = new SendMessage();
-                sendMessage.setChatId(botChat.getChatId());
-                sendMessage.setText(text);
-
-                try {
-                    execute(sendMessage);
-                } catch (TelegramApiException e) {
-                    throw new DataProcessingException("Can't send message", e);
-                }
-            }
+        if (userId != null) {
+            sendMessage(text, List.of(userId));
         }
     }
 
     public void sendMessage(String text, Set<User> users) {
-        if (text != null && !text.isEmpty()) {
-            for (User user : users) {
-                if (botService.existsById(user.getId())) {
-                    SendMessage sendMessage = new SendMessage();
-                    sendMessage.setChatId(botService.findByUserId(user.getId()).getChatId());
-                    sendMessage.setText(text);
-
-                    try {
-                        execute(sendMessage);
-                    } catch (TelegramApiException e) {
-                        throw new DataProcessingException("Can't send message", e);
-                    }
-                }
+        sendMessage(text, users.stream()
+                .map(User::getId)
+                .toList());
+    }
+
+    public void sendMessage(String text, Collection<Long> userIds) {
+        if (text != null && !text.isEmpty() && !userIds.isEmpty()) {
+            outboxRepository.saveAll(userIds.stream()
+                    .map(userId -> TelegramOutboxMessage.of(userId, text))
+                    .toList());
+            runAfterCommit(() -> notificationDispatcher.submit(this::relay));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${telegram.notifications.poll-interval:1000}")
+    public void relay() {
+        deleteCompletedMessages();
+        int limit = Math.min(batchSize, notificationDispatcher.getRemainingCapacity());
+
+        if (limit == 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<TelegramOutboxMessage> messages = outboxRepository.claimDue(
+                now, now.plus(lease, ChronoUnit.MILLIS), limit
+        );
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> chatIds = botService.findChatIdsByUserIds(messages.stream()
+                .map(TelegramOutboxMessage::getUserId)
+                .distinct()
+                .toList());
+
+        for (TelegramOutboxMessage message : messages) {
+            Long chatId = chatIds.get(message.getUserId());
+
+            if (chatId == null) {
+                completedMessageIds.add(message.getId());
+                continue;
             }
+
+            SendMessage sendMessage = new SendMessage();
+            sendMessage.setChatId(chatId);
+            sendMessage.setText(message.getText());
+            notificationDispatcher.dispatch(chatId, () -> execute(sendMessage),
+                    () -> completedMessageIds.add(message.getId()));
         }
     }
 
+    private void deleteCompletedMessages() {
+        List<Long> ids = Stream.generate(completedMessageIds::poll)
+                .takeWhile(Objects::nonNull)
+                .toList();
+
+        if (!ids.isEmpty()) {
+            outboxRepository.deleteAllByIds(ids);
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+        );
+    }
+
     private SendMessage checkUpdateText(Update update) {
         if (update.hasMessage() && update.getMessage().hasText()) {
             Message message = update.getMessage();
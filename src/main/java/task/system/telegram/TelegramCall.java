@@ -0,0 +1,8 @@
+package task.system.telegram;
+
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+@FunctionalInterface
+public interface TelegramCall {
+    void call() throws TelegramApiException;
+}
@@ -0,0 +1,163 @@
+package task.system.telegram;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+import task.system.config.ExecutorThreadFactory;
+
+@Component
+public class TelegramNotificationDispatcher {
+    private static final Logger LOGGER = LogManager.getLogger(TelegramNotificationDispatcher.class);
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final TelegramRateLimiter rateLimiter;
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final long retryBackoff;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter droppedCounter;
+
+    public TelegramNotificationDispatcher(
+            MeterRegistry meterRegistry,
+            ExecutorThreadFactory threadFactory,
+            @Value("${telegram.notifications.workers:4}") int workers,
+            @Value("${telegram.notifications.queue-capacity:10000}") int queueCapacity,
+            @Value("${telegram.notifications.max-attempts:5}") int maxAttempts,
+            @Value("${telegram.notifications.retry-backoff:1000}") long retryBackoff,
+            @Value("${telegram.notifications.per-chat-interval:1000}") long perChatInterval,
+            @Value("${telegram.notifications.global-interval:34}") long globalInterval
+    ) {
+        this.executor = new ScheduledThreadPoolExecutor(
+                workers, threadFactory.create("telegram-notification-")
+        );
+        this.rateLimiter = new TelegramRateLimiter(perChatInterval, globalInterval);
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.successTimer = Timer.builder("telegram.notifications.send")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("telegram.notifications.send")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("telegram.notifications.dropped")
+                .register(meterRegistry);
+        Gauge.builder("telegram.notifications.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public void submit(Runnable task) {
+        if (isQueueFull()) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Can't prepare telegram notifications", e);
+            }
+        });
+    }
+
+    /**
+     * Sends the message with retries and runs onCompletion once it was sent or given up on.
+     * A message dropped because the queue is full never completes.
+     */
+    public void dispatch(Long chatId, TelegramCall call, Runnable onCompletion) {
+        schedule(chatId, call, onCompletion, 1, 0);
+    }
+
+    public int getRemainingCapacity() {
+        return Math.max(0, queueCapacity - executor.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void schedule(
+            Long chatId, TelegramCall call, Runnable onCompletion, int attempt, long minDelay
+    ) {
+        if (isQueueFull()) {
+            return;
+        }
+
+        long delay = rateLimiter.reserve(chatId, minDelay);
+        executor.schedule(() -> send(chatId, call, onCompletion, attempt),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void send(Long chatId, TelegramCall call, Runnable onCompletion, int attempt) {
+        long start = System.nanoTime();
+
+        try {
+            call.call();
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            onCompletion.run();
+        } catch (TelegramApiException | RuntimeException e) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (!isRetryable(e)) {
+                LOGGER.error("Can't send message to chat: {}, not retrying", chatId, e);
+                onCompletion.run();
+            } else if (attempt < maxAttempts) {
+                long backoff = getRetryDelay(e, attempt);
+                LOGGER.warn("Can't send message to chat: {}, attempt {} of {}, retry in {} ms",
+                        chatId, attempt, maxAttempts, backoff);
+                schedule(chatId, call, onCompletion, attempt + 1, backoff);
+            } else {
+                LOGGER.error("Can't send message to chat: {}, giving up after {} attempts",
+                        chatId, attempt, e);
+                onCompletion.run();
+            }
+        }
+    }
+
+    private boolean isRetryable(Exception e) {
+        if (e instanceof TelegramApiRequestException requestException) {
+            Integer errorCode = requestException.getErrorCode();
+            return errorCode == null || errorCode == 0
+                    || errorCode == TOO_MANY_REQUESTS || errorCode >= SERVER_ERROR;
+        }
+
+        return e instanceof TelegramApiException;
+    }
+
+    private long getRetryDelay(Exception e, int attempt) {
+        long backoff = retryBackoff << (attempt - 1);
+
+        if (e instanceof TelegramApiRequestException requestException
+                && requestException.getParameters() != null
+                && requestException.getParameters().getRetryAfter() != null) {
+            return Math.max(backoff,
+                    TimeUnit.SECONDS.toMillis(requestException.getParameters().getRetryAfter()));
+        }
+
+        return backoff;
+    }
+
+    private boolean isQueueFull() {
+        if (executor.getQueue().size() >= queueCapacity) {
+            droppedCounter.increment();
+            LOGGER.warn("Telegram notification queue is full, message dropped");
+            return true;
+        }
+
+        return false;
+    }
+}
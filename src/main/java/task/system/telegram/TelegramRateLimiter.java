@@ -0,0 +1,77 @@
+package task.system.telegram;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.LongSupplier;
+
+/**
+ * Reserves a send time for a chat that keeps perChatInterval to the previous send to the chat
+ * and globalInterval to every other reserved send. Both limits are checked and reserved under
+ * one lock, so concurrent senders can't exceed the global rate. Global reservations are kept
+ * as a calendar rather than a single next slot, so a chat with a backlog occupies only the
+ * slots it actually sends in and doesn't delay the other chats.
+ */
+public class TelegramRateLimiter {
+    private static final long CLEAN_UP_INTERVAL = 60_000;
+
+    private final Map<Long, Long> nextChatSlots = new HashMap<>();
+    private final NavigableSet<Long> globalSlots = new TreeSet<>();
+    private final long perChatInterval;
+    private final long globalInterval;
+    private final LongSupplier clock;
+    private long nextCleanUp;
+
+    public TelegramRateLimiter(long perChatInterval, long globalInterval) {
+        this(perChatInterval, globalInterval, System::currentTimeMillis);
+    }
+
+    TelegramRateLimiter(long perChatInterval, long globalInterval, LongSupplier clock) {
+        this.perChatInterval = perChatInterval;
+        this.globalInterval = globalInterval;
+        this.clock = clock;
+    }
+
+    public synchronized long reserve(Long chatId, long minDelay) {
+        long now = clock.getAsLong();
+        evictPastSlots(now);
+        long slot = findFreeGlobalSlot(
+                Math.max(now + minDelay, nextChatSlots.getOrDefault(chatId, now))
+        );
+        globalSlots.add(slot);
+        nextChatSlots.put(chatId, slot + perChatInterval);
+        return slot - now;
+    }
+
+    synchronized int getTrackedChats() {
+        return nextChatSlots.size();
+    }
+
+    private long findFreeGlobalSlot(long earliest) {
+        long slot = earliest;
+        Long previous = globalSlots.floor(slot);
+
+        if (previous != null && slot - previous < globalInterval) {
+            slot = previous + globalInterval;
+        }
+
+        Long next = globalSlots.ceiling(slot);
+
+        while (next != null && next - slot < globalInterval) {
+            slot = next + globalInterval;
+            next = globalSlots.ceiling(slot);
+        }
+
+        return slot;
+    }
+
+    private void evictPastSlots(long now) {
+        globalSlots.headSet(now - globalInterval).clear();
+
+        if (now >= nextCleanUp) {
+            nextCleanUp = now + CLEAN_UP_INTERVAL;
+            nextChatSlots.values().removeIf(nextSlot -> nextSlot <= now);
+        }
+    }
+}
@@ -3,11 +3,12 @@ package task.system.telegram.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import task.system.model.PooledSequenceGenerator;
 
 @Entity
 @Getter
@@ -15,7 +16,8 @@ import lombok.Setter;
 @Table(name = "task_system_bot_chats")
 public class TaskSystemBotChat {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "task_system_bot_chats_id_seq")
+    @GenericGenerator(name = "task_system_bot_chats_id_seq", type = PooledSequenceGenerator.class)
     private Long id;
     @Column(name = "chat_id", nullable = false, unique = true)
     private Long chatId;
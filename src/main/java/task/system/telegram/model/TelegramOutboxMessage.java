@@ -0,0 +1,37 @@
+package task.system.telegram.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import task.system.model.PooledSequenceGenerator;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "telegram_outbox")
+public class TelegramOutboxMessage {
+    @Id
+    @GeneratedValue(generator = "telegram_outbox_id_seq")
+    @GenericGenerator(name = "telegram_outbox_id_seq", type = PooledSequenceGenerator.class)
+    private Long id;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(name = "text", nullable = false)
+    private String text;
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    public static TelegramOutboxMessage of(Long userId, String text) {
+        TelegramOutboxMessage message = new TelegramOutboxMessage();
+        message.setUserId(userId);
+        message.setText(text);
+        message.setNextAttemptAt(LocalDateTime.now());
+        return message;
+    }
+}
@@ -1,5 +1,6 @@
 package task.system.telegram.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import task.system.telegram.model.TaskSystemBotChat;
@@ -12,4 +13,6 @@ public interface TaskSystemBotRepository {
     List<TaskSystemBotChat> findAll();
 
     Optional<TaskSystemBotChat> findByUserId(Long userId);
+
+    List<TaskSystemBotChat> findAllByUserIds(Collection<Long> userIds);
 }
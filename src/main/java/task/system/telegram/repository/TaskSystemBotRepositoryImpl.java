@@ -1,17 +1,19 @@
 package task.system.telegram.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
-import org.hibernate.Transaction;
 import org.hibernate.query.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
 import task.system.telegram.model.TaskSystemBotChat;
 
 @Repository
+@Transactional
 public class TaskSystemBotRepositoryImpl implements TaskSystemBotRepository {
     private final SessionFactory sessionFactory;
 
@@ -21,33 +23,20 @@ public class TaskSystemBotRepositoryImpl implements TaskSystemBotRepository {
 
     @Override
     public void save(TaskSystemBotChat botChat) {
-        Session session = null;
-        Transaction transaction = null;
-
         try {
-            session = sessionFactory.openSession();
-            transaction = session.beginTransaction();
+            Session session = sessionFactory.getCurrentSession();
             session.persist(botChat);
-            transaction.commit();
+            session.flush();
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-
             throw new DataProcessingException("Can't insert TaskSystemBotChat: " + botChat);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<TaskSystemBotChat> findByChatId(Long chatId) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<TaskSystemBotChat> findQuery = session.createQuery("FROM TaskSystemBotChat bc "
                     + "WHERE bc.chatId = :chatId AND bc.isDeleted = FALSE",
                     TaskSystemBotChat.class);
@@ -55,19 +44,14 @@ public class TaskSystemBotRepositoryImpl implements TaskSystemBotRepository {
             return findQuery.uniqueResultOptional();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find TaskSystemBotChat by id:" + chatId, e);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskSystemBotChat> findAll() {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<TaskSystemBotChat> findAllQuery = session.createQuery(
                     "FROM TaskSystemBotChat bc "
                             + "WHERE bc.isDeleted = FALSE", TaskSystemBotChat.class
@@ -75,29 +59,36 @@ public class TaskSystemBotRepositoryImpl implements TaskSystemBotRepository {
             return findAllQuery.getResultList();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find any TaskSystemBotChat");
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<TaskSystemBotChat> findByUserId(Long userId) {
-        Session session = null;
-
         try {
-            session = sessionFactory.openSession();
+            Session session = sessionFactory.getCurrentSession();
             Query<TaskSystemBotChat> findQuery = session.createQuery("FROM TaskSystemBotChat bc "
                     + "WHERE bc.userId = :userId", TaskSystemBotChat.class);
             findQuery.setParameter("userId", userId);
             return findQuery.uniqueResultOptional();
         } catch (Exception e) {
             throw new EntityNotFoundException("Can't find TaskSystemBotChat by user ID: " + userId);
-        } finally {
-            if (session != null && session.isOpen()) {
-                session.close();
-            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSystemBotChat> findAllByUserIds(Collection<Long> userIds) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            Query<TaskSystemBotChat> findQuery = session.createQuery("FROM TaskSystemBotChat bc "
+                    + "WHERE bc.userId IN (:userIds) AND bc.isDeleted = FALSE",
+                    TaskSystemBotChat.class);
+            findQuery.setParameterList("userIds", userIds);
+            return findQuery.getResultList();
+        } catch (Exception e) {
+            throw new EntityNotFoundException("Can't find TaskSystemBotChat by user IDs: "
+                    + userIds, e);
         }
     }
 }
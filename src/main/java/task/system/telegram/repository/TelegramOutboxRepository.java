@@ -0,0 +1,14 @@
+package task.system.telegram.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import task.system.telegram.model.TelegramOutboxMessage;
+
+public interface TelegramOutboxRepository {
+    void saveAll(List<TelegramOutboxMessage> messages);
+
+    List<TelegramOutboxMessage> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    int deleteAllByIds(Collection<Long> ids);
+}
@@ -0,0 +1,73 @@
+package task.system.telegram.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import task.system.exception.DataProcessingException;
+import task.system.telegram.model.TelegramOutboxMessage;
+
+/**
+ * Messages are written in the transaction of the change they announce, so a rolled back change
+ * sends nothing. A claim moves next_attempt_at of the due messages to the end of a lease and
+ * skips rows locked by other instances; a message that is not deleted before its lease ends,
+ * because the instance stopped or dropped it, is claimed again.
+ */
+@Repository
+@Transactional
+public class TelegramOutboxRepositoryImpl implements TelegramOutboxRepository {
+    private final SessionFactory sessionFactory;
+
+    public TelegramOutboxRepositoryImpl(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void saveAll(List<TelegramOutboxMessage> messages) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            messages.forEach(session::persist);
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't save " + messages.size()
+                    + " telegram messages", e);
+        }
+    }
+
+    @Override
+    public List<TelegramOutboxMessage> claimDue(
+            LocalDateTime now, LocalDateTime leaseUntil, int limit
+    ) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            return session.createNativeQuery("UPDATE telegram_outbox "
+                            + "SET next_attempt_at = :leaseUntil "
+                            + "WHERE id IN (SELECT id FROM telegram_outbox "
+                            + "WHERE next_attempt_at <= :now "
+                            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) "
+                            + "RETURNING id, user_id, text, next_attempt_at",
+                            TelegramOutboxMessage.class)
+                    .setParameter("leaseUntil", leaseUntil)
+                    .setParameter("now", now)
+                    .setParameter("limit", limit)
+                    .getResultList();
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't claim telegram messages due at: " + now, e);
+        }
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        try {
+            Session session = sessionFactory.getCurrentSession();
+            return session.createMutationQuery("DELETE FROM TelegramOutboxMessage m "
+                            + "WHERE m.id IN (:ids)")
+                    .setParameterList("ids", ids)
+                    .executeUpdate();
+        } catch (Exception e) {
+            throw new DataProcessingException("Can't delete telegram messages by ids: " + ids, e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package task.system.telegram.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import task.system.telegram.model.TaskSystemBotChat;
 
 public interface TaskSystemBotService {
@@ -11,4 +13,6 @@ public interface TaskSystemBotService {
     TaskSystemBotChat findByUserId(Long userId);
 
     boolean existsById(Long userId);
+
+    Map<Long, Long> findChatIdsByUserIds(Collection<Long> userIds);
 }
@@ -1,19 +1,42 @@
 package task.system.telegram.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import task.system.exception.EntityNotFoundException;
 import task.system.telegram.model.TaskSystemBotChat;
 import task.system.telegram.repository.TaskSystemBotRepository;
 
 @Service
+@Transactional
 public class TaskSystemBotServiceImpl implements TaskSystemBotService {
     private final TaskSystemBotRepository botRepository;
+    /**
+     * Chat id per user; users without a linked chat map to an empty optional so that
+     * notifying them doesn't query the database every time. saveChatId overwrites both.
+     */
+    private final Map<Long, Optional<Long>> chatIdsByUserId = new ConcurrentHashMap<>();
 
     public TaskSystemBotServiceImpl(TaskSystemBotRepository botRepository) {
         this.botRepository = botRepository;
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpChatIds() {
+        botRepository.findAll()
+                .forEach(botChat -> chatIdsByUserId.put(
+                        botChat.getUserId(), Optional.of(botChat.getChatId())
+                ));
+    }
+
     @Override
     public void saveChatId(Long chatId, Long userId) {
         if (botRepository.findByChatId(chatId).isEmpty()) {
@@ -21,15 +44,18 @@ public class TaskSystemBotServiceImpl implements TaskSystemBotService {
             botChat.setChatId(chatId);
             botChat.setUserId(userId);
             botRepository.save(botChat);
+            chatIdsByUserId.put(userId, Optional.of(chatId));
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskSystemBotChat> findAll() {
         return botRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskSystemBotChat findByUserId(Long userId) {
         return botRepository.findByUserId(userId).orElseThrow(() -> new EntityNotFoundException(
                 "Can't find TaskSystemBotChat by user ID: " + userId)
@@ -37,7 +63,34 @@ public class TaskSystemBotServiceImpl implements TaskSystemBotService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean existsById(Long userId) {
         return botRepository.findByUserId(userId).isPresent();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> findChatIdsByUserIds(Collection<Long> userIds) {
+        Map<Long, Long> chatIds = new HashMap<>();
+        List<Long> missingUserIds = new ArrayList<>();
+
+        for (Long userId : userIds) {
+            Optional<Long> chatId = chatIdsByUserId.get(userId);
+
+            if (chatId == null) {
+                missingUserIds.add(userId);
+            } else {
+                chatId.ifPresent(id -> chatIds.put(userId, id));
+            }
+        }
+
+        if (!missingUserIds.isEmpty()) {
+            botRepository.findAllByUserIds(missingUserIds)
+                    .forEach(botChat -> chatIds.put(botChat.getUserId(), botChat.getChatId()));
+            missingUserIds.forEach(userId ->
+                    chatIdsByUserId.put(userId, Optional.ofNullable(chatIds.get(userId))));
+        }
+
+        return chatIds;
+    }
 }
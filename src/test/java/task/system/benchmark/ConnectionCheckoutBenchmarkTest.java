@@ -0,0 +1,117 @@
+package task.system.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import task.system.exception.DataProcessingException;
+
+/**
+ * Counts JDBC connection checkouts from the Hikari pool for read endpoints. Every service
+ * method runs in one transaction, so each request should check out a single connection.
+ */
+@SpringBootTest
+class ConnectionCheckoutBenchmarkTest {
+    private static final Logger LOGGER =
+            LogManager.getLogger(ConnectionCheckoutBenchmarkTest.class);
+    private static final String CONNECTION_ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private static MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void setUp(@Autowired WebApplicationContext context, @Autowired DataSource dataSource) {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        teardown(dataSource);
+
+        try (Connection connection = dataSource.getConnection()) {
+            callSqlQueryFromFile(connection, "add_three_projects_to_projects_table.sql");
+            callSqlQueryFromFile(connection, "add_users_ids_to_projects_users_table.sql");
+            callSqlQueryFromFile(connection, "add_users_ids_to_projects_administrators_table.sql");
+            callSqlQueryFromFile(connection, "add_three_tasks_for_project1_to_tasks_table.sql");
+        } catch (SQLException e) {
+            throw new DataProcessingException("Cannot connect to the database", e);
+        }
+    }
+
+    @AfterAll
+    static void setDown(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    @SneakyThrows
+    static void teardown(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            callSqlQueryFromFile(connection, "delete_all_task.sql");
+            callSqlQueryFromFile(connection, "delete_all_users_from_projects_users_table.sql");
+            callSqlQueryFromFile(
+                    connection, "delete_all_users_from_projects_administrators_table.sql"
+            );
+            callSqlQueryFromFile(connection, "delete_all_project_from_projects_table.sql");
+        }
+    }
+
+    static Stream<Arguments> endpoints() {
+        return Stream.of(
+                Arguments.of("/projects"),
+                Arguments.of("/projects/1"),
+                Arguments.of("/tasks/1"),
+                Arguments.of("/tasks/project/1"),
+                Arguments.of("/labels/project/1")
+        );
+    }
+
+    @ParameterizedTest(name = "GET {0}")
+    @MethodSource("endpoints")
+    @DisplayName("Read endpoint, should check out one connection per request")
+    @WithMockUser(username = "user1", roles = "USER")
+    void getEndpoint_ShouldCheckOutOneConnection(String endpoint) throws Exception {
+        //Given
+        long before = countCheckouts();
+
+        //When
+        mockMvc.perform(get(endpoint)).andExpect(status().isOk());
+
+        //Then
+        long checkouts = countCheckouts() - before;
+        LOGGER.info("GET {}: {} connection checkout(s)", endpoint, checkouts);
+        assertEquals(1, checkouts);
+    }
+
+    private long countCheckouts() {
+        return meterRegistry.get(CONNECTION_ACQUIRE_TIMER).timer().count();
+    }
+
+    private static void callSqlQueryFromFile(Connection connection, String fileName) {
+        ScriptUtils.executeSqlScript(
+                connection, new ClassPathResource("database/task/" + fileName)
+        );
+    }
+}
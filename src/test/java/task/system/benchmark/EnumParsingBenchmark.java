@@ -0,0 +1,66 @@
+package task.system.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import task.system.exception.DataProcessingException;
+import task.system.model.Label;
+import task.system.model.Task;
+
+/**
+ * The {@code @JsonCreator} factories run for every enum value in a request body. The last
+ * constant is the worst case for the linear scan, an unknown value also builds the message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumParsingBenchmark {
+    private String priority = "high";
+    private String status = "completed";
+    private String color = "navy";
+    private String unknown = "unknown";
+
+    @Benchmark
+    public Task.Priority priorityForValue() {
+        return Task.Priority.forValue(priority);
+    }
+
+    @Benchmark
+    public Task.Status statusForValue() {
+        return Task.Status.forValue(status);
+    }
+
+    @Benchmark
+    public Label.Color colorForValue() {
+        return Label.Color.forValue(color);
+    }
+
+    @Benchmark
+    public String statusForUnknownValue() {
+        try {
+            return Task.Status.forValue(unknown).name();
+        } catch (DataProcessingException e) {
+            return e.getMessage();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EnumParsingBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,109 @@
+package task.system.benchmark;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import task.system.dto.task.TaskCreateRequestDto;
+import task.system.dto.task.TaskFullDetailsDto;
+import task.system.dto.task.TaskLowDetailsDto;
+import task.system.dto.task.TaskPageItem;
+import task.system.mapper.ProjectMapper;
+import task.system.mapper.TaskMapper;
+import task.system.mapper.impl.ProjectMapperImpl;
+import task.system.mapper.impl.TaskMapperImpl;
+import task.system.model.Task;
+import task.system.model.User;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10", "1000"})
+    private int projectUsers;
+
+    private TaskMapper taskMapper;
+    private ProjectMapper projectMapper;
+    private Task task;
+    private TaskCreateRequestDto taskCreateRequest;
+    private TaskPageItem taskPageItem;
+    private Set<User> users;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapperImpl();
+        projectMapper = new ProjectMapperImpl();
+        task = new Task();
+        task.setId(1L);
+        task.setName("task1");
+        task.setDescription("description1");
+        task.setPriority(Task.Priority.MEDIUM);
+        task.setStatus(Task.Status.IN_PROGRESS);
+        task.setDueDate(LocalDate.now().plusDays(10));
+        task.setProjectId(1L);
+        task.setAssigneeId(1L);
+        taskCreateRequest = new TaskCreateRequestDto();
+        taskCreateRequest.setName(task.getName());
+        taskCreateRequest.setDescription(task.getDescription());
+        taskCreateRequest.setPriority(task.getPriority());
+        taskCreateRequest.setStatus(task.getStatus());
+        taskCreateRequest.setDueDate(task.getDueDate());
+        taskCreateRequest.setProjectId(task.getProjectId());
+        taskCreateRequest.setAssigneeId(task.getAssigneeId());
+        taskPageItem = new TaskPageItem(
+                task.getId(), task.getName(), task.getDescription(), task.getDueDate()
+        );
+        users = new HashSet<>();
+
+        for (long i = 1; i <= projectUsers; i++) {
+            User user = new User();
+            user.setId(i);
+            user.setUsername("user" + i);
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    public Task taskToEntity() {
+        return taskMapper.toEntity(taskCreateRequest);
+    }
+
+    @Benchmark
+    public TaskFullDetailsDto taskToFullDetailsDto() {
+        return taskMapper.toFullDetailsDto(task);
+    }
+
+    @Benchmark
+    public TaskLowDetailsDto taskToLowDetailsDto() {
+        return taskMapper.toLowDetailsDto(taskPageItem);
+    }
+
+    @Benchmark
+    public Set<Long> projectSetUserIds() {
+        return projectMapper.setUserIds(users);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,133 @@
+package task.system.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import task.system.dto.project.ProjectLowInfoResponse;
+import task.system.dto.task.TaskPageItem;
+import task.system.dto.task.TaskSearchParameters;
+import task.system.exception.DataProcessingException;
+import task.system.repository.ResultSetRowCounter;
+import task.system.repository.project.ProjectRepository;
+import task.system.repository.task.TaskRepository;
+
+/**
+ * Rows and bytes read from JDBC by the list endpoints on the query-plan dataset, comparing the
+ * DTO projection repository methods with loading the same rows as entities through the
+ * repositories. Both paths run against the real repositories and are measured by
+ * {@link ResultSetRowCounter}.
+ */
+@SpringBootTest
+class ProjectionQueryBenchmarkTest {
+    private static final Logger LOGGER = LogManager.getLogger(ProjectionQueryBenchmarkTest.class);
+    private static final Long USER_ID = 100501L;
+    private static final Long PROJECT_ID = 100500L;
+    private static final int PAGE_SIZE = 51;
+
+    @Autowired
+    private ResultSetRowCounter rowCounter;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeAll
+    static void setUp(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+        callSqlQueryFromFile(dataSource, "seed_large_dataset.sql");
+    }
+
+    @AfterAll
+    static void setDown(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    static void teardown(DataSource dataSource) {
+        callSqlQueryFromFile(dataSource, "delete_large_dataset.sql");
+    }
+
+    @Test
+    @DisplayName("List user projects as DTO projection, should read fewer bytes than entities")
+    void findAllLowInfoByUserId_ComparedToEntities_ShouldReadFewerBytes() {
+        //When
+        rowCounter.reset();
+        List<Long> projectIds = projectRepository.findAllLowInfoByUserId(USER_ID).stream()
+                .map(ProjectLowInfoResponse::getId)
+                .toList();
+        long[] projection = readRowsAndBytes();
+        projectIds.forEach(projectRepository::findById);
+        long[] entities = readRowsAndBytes();
+
+        //Then
+        assertFalse(projectIds.isEmpty());
+        log("ProjectRepository.findAllLowInfoByUserId", entities, projection);
+        assertTrue(projection[0] <= entities[0]);
+        assertTrue(projection[1] < entities[1]);
+    }
+
+    @Test
+    @DisplayName("Task page as DTO projection, should read fewer bytes than entities")
+    void findPageByProjectId_ComparedToEntities_ShouldReadFewerBytes() {
+        //When
+        rowCounter.reset();
+        List<Long> taskIds = taskRepository.findPageByProjectId(
+                        PROJECT_ID, new TaskSearchParameters(), null, PAGE_SIZE
+                ).stream()
+                .map(TaskPageItem::id)
+                .toList();
+        long[] projection = readRowsAndBytes();
+        taskRepository.findAllByIds(taskIds);
+        long[] entities = readRowsAndBytes();
+
+        //Then
+        assertFalse(taskIds.isEmpty());
+        log("TaskRepository.findPageByProjectId", entities, projection);
+        assertTrue(projection[0] <= entities[0]);
+        assertTrue(projection[1] < entities[1]);
+    }
+
+    private long[] readRowsAndBytes() {
+        long[] rowsAndBytes = {rowCounter.getRows(), rowCounter.getBytes()};
+        rowCounter.reset();
+        return rowsAndBytes;
+    }
+
+    private void log(String repositoryMethod, long[] entities, long[] projection) {
+        LOGGER.info("{}: entities {} rows / {} bytes, projection {} rows / {} bytes",
+                repositoryMethod, entities[0], entities[1], projection[0], projection[1]);
+    }
+
+    private static void callSqlQueryFromFile(DataSource dataSource, String fileName) {
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(
+                    connection, new ClassPathResource("database/query-plan/" + fileName)
+            );
+        } catch (SQLException e) {
+            throw new DataProcessingException("Cannot connect to the database", e);
+        }
+    }
+
+    @TestConfiguration
+    static class RowCountingConfig {
+        @Bean
+        static ResultSetRowCounter resultSetRowCounter() {
+            return new ResultSetRowCounter();
+        }
+    }
+}
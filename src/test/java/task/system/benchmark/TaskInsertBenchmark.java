@@ -0,0 +1,148 @@
+package task.system.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.orm.hibernate5.LocalSessionFactoryBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import task.system.model.PooledSequenceGenerator;
+import task.system.model.Task;
+
+/**
+ * Rows per second when 100 000 tasks are inserted in one session, with the default settings
+ * compared to the settings of the prod profile (application-prod.properties), and with a
+ * sequence call per id compared to pooled-lo blocks of ids. Requires Docker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class TaskInsertBenchmark {
+    private static final int TASKS_PER_INVOCATION = 100_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    @Param({"1", "50"})
+    private int allocationSize;
+
+    private PostgreSQLContainer<?> postgreSqlContainer;
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgreSqlContainer = new PostgreSQLContainer<>("postgres:14");
+        postgreSqlContainer.start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgreSqlContainer.getJdbcUrl());
+        dataSource.setUsername(postgreSqlContainer.getUsername());
+        dataSource.setPassword(postgreSqlContainer.getPassword());
+        Properties hibernateProperties = new Properties();
+        hibernateProperties.setProperty("hibernate.hbm2ddl.auto", "create");
+        hibernateProperties.setProperty(
+                "hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect"
+        );
+        hibernateProperties.setProperty(
+                PooledSequenceGenerator.ALLOCATION_SIZE, String.valueOf(allocationSize)
+        );
+
+        if ("prod".equals(profile)) {
+            dataSource.setMaximumPoolSize(20);
+            dataSource.setAutoCommit(false);
+            dataSource.addDataSourceProperty("prepareThreshold", "3");
+            dataSource.addDataSourceProperty("preparedStatementCacheQueries", "512");
+            dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+            hibernateProperties.setProperty(
+                    "hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE)
+            );
+            hibernateProperties.setProperty("hibernate.order_inserts", "true");
+            hibernateProperties.setProperty("hibernate.order_updates", "true");
+            hibernateProperties.setProperty(
+                    "hibernate.connection.provider_disables_autocommit", "true"
+            );
+        }
+
+        sessionFactory = new LocalSessionFactoryBuilder(dataSource)
+                .addAnnotatedClass(Task.class)
+                .addProperties(hibernateProperties)
+                .buildSessionFactory();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.close();
+        postgreSqlContainer.stop();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncateTasks() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createNativeMutationQuery("TRUNCATE tasks").executeUpdate();
+            transaction.commit();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_INVOCATION)
+    public void insertTasks() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            for (int i = 0; i < TASKS_PER_INVOCATION; i++) {
+                session.persist(createTask(i));
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+
+            transaction.commit();
+        }
+    }
+
+    private Task createTask(int index) {
+        Task task = new Task();
+        task.setName("task" + index);
+        task.setDescription("description" + index);
+        task.setPriority(Task.Priority.MEDIUM);
+        task.setStatus(Task.Status.NOT_STARTED);
+        task.setDueDate(LocalDate.now().plusDays(index % 30));
+        task.setProjectId(1L);
+        return task;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskInsertBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,66 @@
+package task.system.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import task.system.validation.PasswordValidation;
+import task.system.validation.UsernameValidation;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    @Param({"valid", "invalid"})
+    private String input;
+
+    private PasswordValidation passwordValidation;
+    private UsernameValidation usernameValidation;
+    private String password;
+    private String username;
+
+    @Setup
+    public void setUp() {
+        passwordValidation = new PasswordValidation();
+        usernameValidation = new UsernameValidation();
+
+        if ("valid".equals(input)) {
+            password = "User1=3215987";
+            username = "username1";
+        } else {
+            password = "user13215987";
+            username = "1username";
+        }
+    }
+
+    @Benchmark
+    public boolean passwordIsValid() {
+        return passwordValidation.isValid(password, null);
+    }
+
+    @Benchmark
+    public boolean usernameIsValid() {
+        return usernameValidation.isValid(username, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ValidationBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -174,6 +174,30 @@ class AuthenticationControllerTest {
         assertEquals(expected, exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Register user with exists username, should return 400 status")
+    @Sql(scripts = "classpath:database/authentication/restart_users_id_sequence.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void registerUser_WithExistsUsername_ShouldReturnBadRequestStatus() throws Exception {
+        //Given
+        UserRegisterRequestDto request = createUserRequest();
+        request.setUsername("user1");
+        int expected = 400;
+
+        //When
+        String jsonRequest = objectMapper.writeValueAsString(request);
+        MvcResult result = mockMvc.perform(
+                post("/auth/register")
+                        .content(jsonRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+
+        //Then
+        int actual = result.getResponse().getStatus();
+        assertEquals(expected, actual);
+    }
+
     @Test
     @DisplayName("Register user with invalid email, should return 400 status")
     void registerUser_WithInvalidEmail_ShouldReturnBadRequestStatus() throws Exception {
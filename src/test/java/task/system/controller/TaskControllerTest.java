@@ -1,6 +1,8 @@
 package task.system.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -9,7 +11,6 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -37,6 +38,7 @@ import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
 import task.system.dto.task.TaskCreateRequestDto;
 import task.system.dto.task.TaskFullDetailsDto;
 import task.system.dto.task.TaskLowDetailsDto;
+import task.system.dto.task.TaskPageResponseDto;
 import task.system.dto.task.TaskUpdateRequestDto;
 import task.system.exception.DataProcessingException;
 import task.system.model.Task;
@@ -314,12 +316,72 @@ class TaskControllerTest {
                 .andReturn();
 
         //Then
-        List<TaskLowDetailsDto> actual = objectMapper.readValue(
-                result.getResponse().getContentAsByteArray(),
-                new TypeReference<List<TaskLowDetailsDto>>() {}
+        TaskPageResponseDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsByteArray(), TaskPageResponseDto.class
         );
-        assertEquals(expected.size(), actual.size());
-        assertTrue(EqualsBuilder.reflectionEquals(expected.get(0), actual.get(0)));
+        assertEquals(expected.size(), actual.getTasks().size());
+        assertTrue(EqualsBuilder.reflectionEquals(expected.get(0), actual.getTasks().get(0)));
+        assertNull(actual.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Get all with page size less than tasks count, "
+            + "should return next page by cursor")
+    @WithMockUser(username = "user1", roles = "USER")
+    void getAll_WithPageSize_ShouldReturnNextPageByCursor() throws Exception {
+        //Given
+        Long projectId = 1L;
+
+        //When
+        MvcResult firstResult = mockMvc.perform(
+                        get("/tasks/project/{projectId}", projectId)
+                                .param("size", "2")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        TaskPageResponseDto firstPage = objectMapper.readValue(
+                firstResult.getResponse().getContentAsByteArray(), TaskPageResponseDto.class
+        );
+        MvcResult secondResult = mockMvc.perform(
+                        get("/tasks/project/{projectId}", projectId)
+                                .param("size", "2")
+                                .param("cursor", firstPage.getNextCursor())
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        TaskPageResponseDto secondPage = objectMapper.readValue(
+                secondResult.getResponse().getContentAsByteArray(), TaskPageResponseDto.class
+        );
+
+        //Then
+        assertEquals(2, firstPage.getTasks().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(1, secondPage.getTasks().size());
+        assertEquals(3L, secondPage.getTasks().get(0).getId());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Get all filtered by priority, should return only matching tasks")
+    @WithMockUser(username = "user1", roles = "USER")
+    void getAll_FilteredByPriority_ShouldReturnMatchingTasks() throws Exception {
+        //Given
+        Long projectId = 1L;
+
+        //When
+        MvcResult result = mockMvc.perform(
+                        get("/tasks/project/{projectId}", projectId)
+                                .param("priority", Task.Priority.HIGH.name())
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        //Then
+        TaskPageResponseDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsByteArray(), TaskPageResponseDto.class
+        );
+        assertEquals(1, actual.getTasks().size());
+        assertEquals(3L, actual.getTasks().get(0).getId());
     }
 
     @Test
@@ -0,0 +1,62 @@
+package task.system.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies recorded for one endpoint during the measured part of a load test run.
+ * Every sample is kept, so the reported percentiles are exact rather than estimated.
+ */
+class EndpointStats {
+    private final String endpoint;
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+
+        latencies[size++] = latencyNanos;
+
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        return new Summary(
+                endpoint,
+                size,
+                errors,
+                size / durationSeconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99)
+        );
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    record Summary(
+            String endpoint,
+            long requests,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p99Millis
+    ) {
+    }
+}
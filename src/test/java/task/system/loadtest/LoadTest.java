@@ -0,0 +1,155 @@
+package task.system.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.ActiveProfiles;
+import task.system.repository.user.UserRepository;
+import task.system.security.JwtUtil;
+import task.system.telegram.TelegramNotificationDispatcher;
+import task.system.telegram.repository.TelegramOutboxRepository;
+import task.system.telegram.service.TaskSystemBotService;
+
+/**
+ * End-to-end load test against the Testcontainers database seeded with a large dataset.
+ * Runs only with {@code -Dloadtest=true} (see the {@code loadtest} Maven profile), sizes and
+ * run length come from {@code application-loadtest.properties} and can be overridden with
+ * system properties, for example {@code -Dloadtest.tasks=100000}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class LoadTest {
+    private static final Logger LOGGER = LogManager.getLogger(LoadTest.class);
+
+    @LocalServerPort
+    private int port;
+    @Value("${server.servlet.context-path}")
+    private String contextPath;
+    @Value("${loadtest.threads}")
+    private int threads;
+    @Value("${threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+    @Value("${loadtest.warmup}")
+    private Duration warmup;
+    @Value("${loadtest.duration}")
+    private Duration duration;
+    @Value("${loadtest.max-error-rate}")
+    private double maxErrorRate;
+    @Value("${loadtest.report}")
+    private Path report;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private StubTaskSystemBot taskSystemBot;
+
+    @BeforeAll
+    static void setUp(@Autowired LoadTestDataSeeder seeder) {
+        seeder.clean();
+        seeder.seed();
+    }
+
+    @AfterAll
+    static void setDown(@Autowired LoadTestDataSeeder seeder) {
+        seeder.clean();
+    }
+
+    @Test
+    @DisplayName("Mixed workload on large dataset, should report latency and throughput")
+    void run_MixedWorkload_ShouldStayUnderMaxErrorRate(@Autowired LoadTestDataset dataset)
+            throws InterruptedException, IOException {
+        //Given
+        LoadTestWorkload workload = new LoadTestWorkload(
+                "http://localhost:" + port + contextPath, dataset, jwtUtil
+        );
+
+        //When
+        List<EndpointStats.Summary> summaries = workload.run(threads, warmup, duration);
+
+        //Then
+        LOGGER.info(String.format("%-32s %10s %8s %12s %10s %10s",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms"));
+        summaries.forEach(summary -> LOGGER.info(String.format(
+                "%-32s %10d %8d %12.1f %10.2f %10.2f", summary.endpoint(), summary.requests(),
+                summary.errors(), summary.throughput(), summary.p50Millis(), summary.p99Millis()
+        )));
+        LOGGER.info("Virtual threads: {}, stubbed telegram messages: {}",
+                virtualThreads, taskSystemBot.getMessageCount());
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(),
+                new Report(dataset, threads, virtualThreads, warmup, duration, summaries));
+
+        long requests = summaries.stream().mapToLong(EndpointStats.Summary::requests).sum();
+        long errors = summaries.stream().mapToLong(EndpointStats.Summary::errors).sum();
+        assertTrue(requests > 0);
+        assertTrue(errors <= requests * maxErrorRate,
+                "Error rate is above " + maxErrorRate + ": " + errors + " of " + requests);
+    }
+
+    record Report(
+            LoadTestDataset dataset,
+            int threads,
+            boolean virtualThreads,
+            Duration warmup,
+            Duration duration,
+            List<EndpointStats.Summary> endpoints
+    ) {
+    }
+
+    @TestConfiguration
+    static class LoadTestConfig {
+        @Bean
+        LoadTestDataset loadTestDataset(
+                @Value("${loadtest.users}") int users,
+                @Value("${loadtest.projects}") int projects,
+                @Value("${loadtest.tasks}") long tasks,
+                @Value("${loadtest.comments}") long comments,
+                @Value("${loadtest.members-per-project}") int membersPerProject,
+                @Value("${loadtest.administrators-per-project}") int administratorsPerProject
+        ) {
+            return new LoadTestDataset(users, projects, tasks, comments,
+                    membersPerProject, administratorsPerProject);
+        }
+
+        @Bean
+        LoadTestDataSeeder loadTestDataSeeder(DataSource dataSource, LoadTestDataset dataset) {
+            return new LoadTestDataSeeder(dataSource, dataset);
+        }
+
+        @Bean
+        @Primary
+        StubTaskSystemBot stubTaskSystemBot(
+                TaskSystemBotService botService,
+                UserRepository userRepository,
+                TelegramNotificationDispatcher notificationDispatcher,
+                TelegramOutboxRepository outboxRepository
+        ) {
+            return new StubTaskSystemBot(
+                    botService, userRepository, notificationDispatcher, outboxRepository
+            );
+        }
+    }
+}
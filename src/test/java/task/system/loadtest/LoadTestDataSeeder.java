@@ -0,0 +1,158 @@
+package task.system.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.LongFunction;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import task.system.exception.DataProcessingException;
+
+/**
+ * Bulk loads a {@link LoadTestDataset} with {@code COPY ... FROM STDIN}, streaming CSV rows in
+ * fixed-size chunks so millions of rows never sit in memory at once.
+ */
+class LoadTestDataSeeder {
+    private static final Logger LOGGER = LogManager.getLogger(LoadTestDataSeeder.class);
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final String PASSWORD =
+            "$2a$10$dMJKC2x.aGKJ8gvO8wr4JuIyoIqKOz9Ub5a78ocNPwL33LetZCznW";
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] STATUSES = {"NOT_STARTED", "IN_PROGRESS", "COMPLETED"};
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    private static final List<String> TABLES = List.of("users", "users_roles", "projects",
+            "projects_users", "projects_administrators", "tasks", "comments");
+    private static final List<String> CLEAN_UP_STATEMENTS = List.of(
+            "DELETE FROM comments WHERE task_id >= " + LoadTestDataset.ID_OFFSET,
+            "DELETE FROM tasks WHERE project_id >= " + LoadTestDataset.ID_OFFSET,
+            "DELETE FROM projects_administrators WHERE project_id >= " + LoadTestDataset.ID_OFFSET,
+            "DELETE FROM projects_users WHERE project_id >= " + LoadTestDataset.ID_OFFSET,
+            "DELETE FROM projects WHERE id >= " + LoadTestDataset.ID_OFFSET,
+            "DELETE FROM users_roles WHERE user_id >= " + LoadTestDataset.ID_OFFSET,
+            "DELETE FROM users WHERE id >= " + LoadTestDataset.ID_OFFSET
+    );
+
+    private final DataSource dataSource;
+    private final LoadTestDataset dataset;
+
+    LoadTestDataSeeder(DataSource dataSource, LoadTestDataset dataset) {
+        this.dataSource = dataSource;
+        this.dataset = dataset;
+    }
+
+    void seed() {
+        try (Connection connection = dataSource.getConnection()) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            copy(copyManager, "users", "id, username, email, password, first_name, last_name, "
+                    + "is_deleted", dataset.users(), i -> dataset.userId(i) + ",loaduser" + i
+                    + "," + dataset.userEmail(i) + "," + PASSWORD + ",Load,User" + i + ",false");
+            copy(copyManager, "users_roles", "user_id, role_id", dataset.users(),
+                    i -> dataset.userId(i) + ",1");
+            copy(copyManager, "projects", "id, name, description, main_user_id, start_date, "
+                    + "end_date, status, is_deleted", dataset.projects(),
+                    i -> dataset.projectId(i) + ",load_project" + i + ",Load test project " + i
+                            + "," + dataset.memberId(i, 0) + "," + START_DATE + ","
+                            + START_DATE.plusYears(5) + ",IN_PROGRESS,false");
+            int members = dataset.membersPerProject();
+            copy(copyManager, "projects_users", "project_id, user_id",
+                    (long) dataset.projects() * members,
+                    i -> dataset.projectId(i / members) + ","
+                            + dataset.memberId(i / members, i % members));
+            int administrators = dataset.administratorsPerProject();
+            copy(copyManager, "projects_administrators", "project_id, user_id",
+                    (long) dataset.projects() * administrators,
+                    i -> dataset.projectId(i / administrators) + ","
+                            + dataset.memberId(i / administrators, i % administrators));
+            copy(copyManager, "tasks", "id, name, description, priority, status, due_date, "
+                    + "project_id, assignee_id, is_deleted", dataset.tasks(),
+                    i -> dataset.taskId(i) + ",load_task" + i + ",Load test task " + i + ","
+                            + PRIORITIES[(int) (i % PRIORITIES.length)] + ","
+                            + STATUSES[(int) (i % STATUSES.length)] + ","
+                            + START_DATE.plusDays(i % 1000) + ","
+                            + dataset.projectId(dataset.taskProjectIndex(i)) + ","
+                            + dataset.taskAssigneeId(i) + ",false");
+            copy(copyManager, "comments", "id, task_id, user_id, text, timestamp, is_deleted",
+                    dataset.comments(),
+                    i -> dataset.commentId(i) + ","
+                            + dataset.taskId(dataset.commentTaskIndex(i)) + ","
+                            + dataset.commentUserId(i) + ",Load test comment " + i + ","
+                            + START_DATE.atStartOfDay().plusSeconds(i) + ",false");
+            commit(connection);
+
+            try (Statement statement = connection.createStatement()) {
+                for (String table : TABLES) {
+                    statement.execute("ANALYZE " + table);
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataProcessingException("Can't seed load test dataset", e);
+        }
+    }
+
+    void clean() {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String sql : CLEAN_UP_STATEMENTS) {
+                statement.execute(sql);
+            }
+
+            commit(connection);
+        } catch (SQLException e) {
+            throw new DataProcessingException("Can't clean load test dataset", e);
+        }
+    }
+
+    private void copy(
+            CopyManager copyManager,
+            String table,
+            String columns,
+            long rows,
+            LongFunction<String> row
+    ) throws SQLException {
+        long start = System.nanoTime();
+        CopyIn copyIn = copyManager.copyIn(
+                "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)"
+        );
+
+        try {
+            StringBuilder chunk = new StringBuilder(CHUNK_SIZE + 256);
+
+            for (long i = 0; i < rows; i++) {
+                chunk.append(row.apply(i)).append('\n');
+
+                if (chunk.length() >= CHUNK_SIZE) {
+                    write(copyIn, chunk);
+                }
+            }
+
+            write(copyIn, chunk);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        LOGGER.info("Copied {} rows into {} in {} ms",
+                rows, table, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void write(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    private void commit(Connection connection) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package task.system.loadtest;
+
+/**
+ * Sizes of the seeded load-test dataset and the deterministic id layout shared by the seeder
+ * and the workload, so requests can pick valid ids without reading them back.
+ * Member {@code j} of project {@code p} is user {@code (p * membersPerProject + j) % users},
+ * the first {@code administratorsPerProject} members are administrators and member 0 is the
+ * main user. Task {@code t} belongs to project {@code t % projects} and comment {@code c}
+ * to task {@code c % tasks}.
+ */
+record LoadTestDataset(
+        int users,
+        int projects,
+        long tasks,
+        long comments,
+        int membersPerProject,
+        int administratorsPerProject
+) {
+    static final long ID_OFFSET = 1_000_000L;
+
+    LoadTestDataset {
+        if (users < membersPerProject || membersPerProject < administratorsPerProject
+                || administratorsPerProject < 1 || tasks < projects) {
+            throw new IllegalArgumentException("Invalid load test dataset: users " + users
+                    + ", members per project " + membersPerProject
+                    + ", administrators per project " + administratorsPerProject
+                    + ", projects " + projects + ", tasks " + tasks);
+        }
+    }
+
+    long userId(long userIndex) {
+        return ID_OFFSET + userIndex;
+    }
+
+    long projectId(long projectIndex) {
+        return ID_OFFSET + projectIndex;
+    }
+
+    long taskId(long taskIndex) {
+        return ID_OFFSET + taskIndex;
+    }
+
+    long commentId(long commentIndex) {
+        return ID_OFFSET + commentIndex;
+    }
+
+    String userEmail(long userIndex) {
+        return "load_user" + userIndex + "@example.com";
+    }
+
+    long memberIndex(long projectIndex, long memberIndex) {
+        return (projectIndex * membersPerProject + memberIndex) % users;
+    }
+
+    long memberId(long projectIndex, long memberIndex) {
+        return userId(memberIndex(projectIndex, memberIndex));
+    }
+
+    long taskProjectIndex(long taskIndex) {
+        return taskIndex % projects;
+    }
+
+    long taskAssigneeId(long taskIndex) {
+        return memberId(taskProjectIndex(taskIndex), (taskIndex / projects) % membersPerProject);
+    }
+
+    long commentTaskIndex(long commentIndex) {
+        return commentIndex % tasks;
+    }
+
+    long commentUserId(long commentIndex) {
+        long taskIndex = commentTaskIndex(commentIndex);
+        return memberId(taskProjectIndex(taskIndex), (commentIndex / tasks) % membersPerProject);
+    }
+
+    long tasksPerProject() {
+        return tasks / projects;
+    }
+}
@@ -0,0 +1,173 @@
+package task.system.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import task.system.security.JwtUtil;
+
+/**
+ * Weighted mix of read and write requests sent by a fixed number of threads against a
+ * {@link LoadTestDataset}. Every request is made by a random member of a random project, so
+ * each one passes the access checks and exercises the same code paths as real traffic.
+ * Requests started during the warmup are sent but not recorded.
+ */
+class LoadTestWorkload {
+    private static final int PAGE_SIZE = 50;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private final Map<Long, String> tokens = new ConcurrentHashMap<>();
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final String baseUrl;
+    private final LoadTestDataset dataset;
+    private final JwtUtil jwtUtil;
+
+    LoadTestWorkload(String baseUrl, LoadTestDataset dataset, JwtUtil jwtUtil) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.jwtUtil = jwtUtil;
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint.label));
+        }
+    }
+
+    List<EndpointStats.Summary> run(int threads, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long measureUntil = measureFrom + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> runWorker(measureFrom, measureUntil));
+        }
+
+        executor.shutdown();
+
+        if (!executor.awaitTermination(
+                warmup.plus(duration).plus(REQUEST_TIMEOUT).toNanos(), TimeUnit.NANOSECONDS)) {
+            executor.shutdownNow();
+        }
+
+        double seconds = duration.toNanos() / 1e9;
+        return stats.values().stream()
+                .map(endpointStats -> endpointStats.summarize(seconds))
+                .toList();
+    }
+
+    private void runWorker(long measureFrom, long measureUntil) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < measureUntil) {
+            Endpoint endpoint = Endpoint.pick(random.nextInt(Endpoint.TOTAL_WEIGHT));
+            HttpRequest request = createRequest(endpoint, random);
+            long start = System.nanoTime();
+            boolean success = send(request);
+            long end = System.nanoTime();
+
+            if (start >= measureFrom && end <= measureUntil) {
+                stats.get(endpoint).record(end - start, success);
+            }
+        }
+    }
+
+    private HttpRequest createRequest(Endpoint endpoint, ThreadLocalRandom random) {
+        long projectIndex = random.nextLong(dataset.projects());
+        long userIndex = dataset.memberIndex(
+                projectIndex, random.nextLong(dataset.membersPerProject())
+        );
+        long projectId = dataset.projectId(projectIndex);
+        long taskId = dataset.taskId(
+                projectIndex + random.nextLong(dataset.tasksPerProject()) * dataset.projects()
+        );
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + getToken(userIndex));
+
+        return switch (endpoint) {
+            case GET_PROJECTS -> builder.uri(uri("/projects")).GET().build();
+            case GET_PROJECT -> builder.uri(uri("/projects/" + projectId)).GET().build();
+            case GET_TASK_PAGE -> builder
+                    .uri(uri("/tasks/project/" + projectId + "?size=" + PAGE_SIZE))
+                    .GET()
+                    .build();
+            case GET_TASK -> builder.uri(uri("/tasks/" + taskId)).GET().build();
+            case GET_COMMENTS -> builder.uri(uri("/comments?taskId=" + taskId)).GET().build();
+            case POST_COMMENT -> builder.uri(uri("/comments"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"taskId\":" + taskId + ",\"text\":\"Load test comment\"}"
+                    ))
+                    .build();
+        };
+    }
+
+    private boolean send(HttpRequest request) {
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String getToken(long userIndex) {
+        return tokens.computeIfAbsent(userIndex,
+                index -> jwtUtil.generateToken(dataset.userEmail(index)));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private enum Endpoint {
+        GET_PROJECTS("GET /projects", 15),
+        GET_PROJECT("GET /projects/{id}", 20),
+        GET_TASK_PAGE("GET /tasks/project/{projectId}", 25),
+        GET_TASK("GET /tasks/{id}", 15),
+        GET_COMMENTS("GET /comments?taskId={taskId}", 20),
+        POST_COMMENT("POST /comments", 5);
+
+        private static final int TOTAL_WEIGHT = Arrays.stream(values())
+                .mapToInt(endpoint -> endpoint.weight)
+                .sum();
+
+        private final String label;
+        private final int weight;
+
+        Endpoint(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        private static Endpoint pick(int roll) {
+            for (Endpoint endpoint : values()) {
+                roll -= endpoint.weight;
+
+                if (roll < 0) {
+                    return endpoint;
+                }
+            }
+
+            throw new IllegalStateException("Roll is out of total weight: " + roll);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package task.system.loadtest;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import task.system.model.User;
+import task.system.repository.user.UserRepository;
+import task.system.telegram.TaskSystemBot;
+import task.system.telegram.TelegramNotificationDispatcher;
+import task.system.telegram.repository.TelegramOutboxRepository;
+import task.system.telegram.service.TaskSystemBotService;
+
+/**
+ * Counts notifications instead of calling the Telegram API, so the load test measures the
+ * service and the database only.
+ */
+class StubTaskSystemBot extends TaskSystemBot {
+    private final AtomicLong messages = new AtomicLong();
+
+    StubTaskSystemBot(
+            TaskSystemBotService botService,
+            UserRepository userRepository,
+            TelegramNotificationDispatcher notificationDispatcher,
+            TelegramOutboxRepository outboxRepository
+    ) {
+        super(botService, userRepository, notificationDispatcher, outboxRepository);
+    }
+
+    @Override
+    public void sendMessage(String text, Long userId) {
+        messages.incrementAndGet();
+    }
+
+    @Override
+    public void sendMessage(String text, Set<User> users) {
+        messages.addAndGet(users.size());
+    }
+
+    @Override
+    public void sendMessage(String text, Collection<Long> userIds) {
+        messages.addAndGet(userIds.size());
+    }
+
+    long getMessageCount() {
+        return messages.get();
+    }
+}
@@ -0,0 +1,76 @@
+package task.system.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import task.system.exception.EntityNotFoundException;
+import task.system.repository.project.ProjectRepositoryImpl;
+import task.system.service.task.TaskServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class MethodTimingAspectTest {
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private Signature signature;
+
+    private MeterRegistry meterRegistry;
+    private MethodTimingAspect methodTimingAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        methodTimingAspect = new MethodTimingAspect(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Time repository method, should record timer tagged with query name")
+    void timeRepositoryMethod_Success_ShouldRecordQueryTimer() throws Throwable {
+        //Given
+        Object expected = new Object();
+
+        //When
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(ProjectRepositoryImpl.class);
+        when(signature.getName()).thenReturn("findById");
+        when(joinPoint.proceed()).thenReturn(expected);
+
+        //Then
+        assertEquals(expected, methodTimingAspect.timeRepositoryMethod(joinPoint));
+        assertEquals(1, meterRegistry.get("repository.method")
+                .tag("query", "ProjectRepository.findById")
+                .tag("exception", "none")
+                .timer()
+                .count());
+    }
+
+    @Test
+    @DisplayName("Time service method with exception, should rethrow and tag exception")
+    void timeServiceMethod_WithException_ShouldRecordExceptionTag() throws Throwable {
+        //When
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(TaskServiceImpl.class);
+        when(signature.getName()).thenReturn("getById");
+        when(joinPoint.proceed()).thenThrow(new EntityNotFoundException("Can't find task"));
+
+        //Then
+        assertThrows(EntityNotFoundException.class,
+                () -> methodTimingAspect.timeServiceMethod(joinPoint));
+        assertEquals(1, meterRegistry.get("service.method")
+                .tag("method", "TaskService.getById")
+                .tag("exception", "EntityNotFoundException")
+                .timer()
+                .count());
+    }
+}
@@ -0,0 +1,136 @@
+package task.system.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import task.system.exception.DataProcessingException;
+import task.system.model.Project;
+import task.system.repository.project.ProjectRepository;
+
+/**
+ * Rows read from JDBC by each project fetch plan on a project with 2000 users and 50
+ * administrators. Fetching both collections with one join would read users x administrators
+ * (100000) rows, every plan here must stay linear in the number of members.
+ */
+@SpringBootTest
+class ProjectFetchPlanTest {
+    private static final Long PROJECT_ID = 300000L;
+    private static final int USERS = 2000;
+    private static final int ADMINISTRATORS = 50;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ResultSetRowCounter rowCounter;
+
+    @BeforeAll
+    static void setUp(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+        callSqlQueryFromFile(dataSource, "add_large_project_for_fetch_plans.sql");
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    static void teardown(DataSource dataSource) {
+        callSqlQueryFromFile(dataSource, "delete_large_project_for_fetch_plans.sql");
+    }
+
+    @BeforeEach
+    void resetRowCounter() {
+        rowCounter.reset();
+    }
+
+    @Test
+    @DisplayName("Find header by id, should read a single row")
+    void findHeaderById_WithLargeProject_ShouldReadSingleRow() {
+        //When
+        projectRepository.findHeaderById(PROJECT_ID).orElseThrow();
+
+        //Then
+        assertEquals(1, rowCounter.getRows());
+    }
+
+    @Test
+    @DisplayName("Find header with member ids, should read one row per member")
+    void findMemberIds_WithLargeProject_ShouldReadOneRowPerMember() {
+        //When
+        projectRepository.findHeaderById(PROJECT_ID).orElseThrow();
+        int users = projectRepository.findUserIdsByProjectId(PROJECT_ID).size();
+        int administrators = projectRepository.findAdministratorIdsByProjectId(PROJECT_ID).size();
+
+        //Then
+        assertEquals(USERS, users);
+        assertEquals(ADMINISTRATORS, administrators);
+        assertEquals(1 + USERS + ADMINISTRATORS, rowCounter.getRows());
+    }
+
+    @Test
+    @DisplayName("Find full project by id, should not read a users x administrators product")
+    void findById_WithLargeProject_ShouldNotReadCartesianProduct() {
+        //When
+        Project project = projectRepository.findById(PROJECT_ID).orElseThrow();
+
+        //Then
+        assertEquals(USERS, project.getUsers().size());
+        assertEquals(ADMINISTRATORS, project.getAdministrators().size());
+        assertTrue(rowCounter.getRows() <= 2 + USERS + ADMINISTRATORS,
+                "Rows read: " + rowCounter.getRows());
+    }
+
+    @Test
+    @DisplayName("Add and remove administrators, should read back only the changed rows")
+    void changeAdministrators_WithExistingMembers_ShouldReturnOnlyChangedIds() {
+        //When
+        Set<Long> added = projectRepository.addAdministrators(
+                PROJECT_ID, Set.of(300049L, 300050L, 300051L)
+        );
+        long addedRows = rowCounter.getRows();
+        rowCounter.reset();
+        Set<Long> removed = projectRepository.removeAdministrators(
+                PROJECT_ID, Set.of(300050L, 300051L, 300052L)
+        );
+
+        //Then
+        assertEquals(Set.of(300050L, 300051L), added);
+        assertEquals(2, addedRows);
+        assertEquals(Set.of(300050L, 300051L), removed);
+        assertEquals(2, rowCounter.getRows());
+    }
+
+    private static void callSqlQueryFromFile(DataSource dataSource, String fileName) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(
+                    connection, new ClassPathResource("database/project/" + fileName)
+            );
+        } catch (SQLException e) {
+            throw new DataProcessingException("Can't connect to database", e);
+        }
+    }
+
+    @TestConfiguration
+    static class RowCountingConfig {
+        @Bean
+        static ResultSetRowCounter resultSetRowCounter() {
+            return new ResultSetRowCounter();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package task.system.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import task.system.dto.task.TaskCursor;
+import task.system.dto.task.TaskSearchParameters;
+import task.system.exception.DataProcessingException;
+import task.system.model.Label;
+import task.system.repository.attachment.AttachmentRepository;
+import task.system.repository.comment.CommentRepository;
+import task.system.repository.label.LabelRepository;
+import task.system.repository.project.ProjectRepository;
+import task.system.repository.task.TaskRepository;
+import task.system.repository.user.UserRepository;
+import task.system.telegram.repository.TaskSystemBotRepository;
+
+/**
+ * Calls repository methods against a seeded large dataset, records the SQL Hibernate sent
+ * for them and runs EXPLAIN on each statement with the parameters it was executed with.
+ */
+@SpringBootTest
+class RepositoryQueryPlanTest {
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private ResultSetRowCounter statementRecorder;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+    @Autowired
+    private LabelRepository labelRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TaskSystemBotRepository taskSystemBotRepository;
+
+    @BeforeAll
+    static void setUp(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+        callSqlQueryFromFile(dataSource, "seed_large_dataset.sql");
+    }
+
+    @AfterAll
+    static void setDown(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    static void teardown(DataSource dataSource) {
+        callSqlQueryFromFile(dataSource, "delete_large_dataset.sql");
+    }
+
+    @BeforeEach
+    void resetStatementRecorder() {
+        statementRecorder.reset();
+    }
+
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                Arguments.of("tasks", "TaskRepository.findPageByProjectId",
+                        call(test -> test.taskRepository.findPageByProjectId(
+                                100500L, new TaskSearchParameters(),
+                                new TaskCursor(LocalDate.of(2025, 6, 10), 100000L), 51))),
+                Arguments.of("comments", "CommentRepository.findAllByTaskId",
+                        call(test -> test.commentRepository.findAllByTaskId(150000L))),
+                Arguments.of("attachments", "AttachmentRepository.findAllByTaskId",
+                        call(test -> test.attachmentRepository.findAllByTaskId(120000L))),
+                Arguments.of("attachments", "AttachmentRepository.findByFileName",
+                        call(test -> test.attachmentRepository.findByFileName(
+                                "file120000.txt"))),
+                Arguments.of("labels", "LabelRepository.findByNameAndColorAndProjectId",
+                        call(test -> test.labelRepository.findByNameAndColorAndProjectId(
+                                Label.Color.RED, "label100500", 100500L))),
+                Arguments.of("labels", "LabelRepository.findAllByProjectId",
+                        call(test -> test.labelRepository.findAllByProjectId(100500L))),
+                Arguments.of("labels", "LabelRepository.findDefaultLabels",
+                        call(test -> test.labelRepository.findDefaultLabels())),
+                Arguments.of("projects_users", "ProjectRepository.findAllLowInfoByUserId",
+                        call(test -> test.projectRepository.findAllLowInfoByUserId(100500L))),
+                Arguments.of("projects_users", "ProjectRepository.findById",
+                        call(test -> test.projectRepository.findById(100501L))),
+                Arguments.of("projects_administrators", "ProjectRepository.findById",
+                        call(test -> test.projectRepository.findById(100501L))),
+                Arguments.of("users_roles", "UserRepository.findById",
+                        call(test -> test.userRepository.findById(100500L))),
+                Arguments.of("task_system_bot_chats", "TaskSystemBotRepository.findByUserId",
+                        call(test -> test.taskSystemBotRepository.findByUserId(100500L)))
+        );
+    }
+
+    @DisplayName("Repository query on seeded large table, should not use sequential scan")
+    @ParameterizedTest(name = "{1} on {0}")
+    @MethodSource("repositoryQueries")
+    void explain_RepositoryQuery_ShouldNotUseSequentialScan(
+            String table, String repositoryMethod, Consumer<RepositoryQueryPlanTest> query
+    ) throws SQLException {
+        //Given
+        query.accept(this);
+        Pattern tableName = Pattern.compile("\\b" + table + "\\b");
+        List<ResultSetRowCounter.ExecutedStatement> statements =
+                statementRecorder.getExecutedStatements().stream()
+                        .filter(statement -> tableName.matcher(statement.getSql()).find())
+                        .toList();
+        assertFalse(statements.isEmpty(), repositoryMethod + " sent no query on " + table);
+
+        for (ResultSetRowCounter.ExecutedStatement statement : statements) {
+            //When
+            List<String> plan = explain(statement);
+
+            //Then
+            assertTrue(plan.stream().noneMatch(line -> line.contains("Seq Scan on " + table + " ")),
+                    repositoryMethod + " uses a sequential scan on " + table + ":"
+                            + System.lineSeparator() + statement.getSql()
+                            + System.lineSeparator() + String.join(System.lineSeparator(), plan));
+        }
+    }
+
+    private List<String> explain(ResultSetRowCounter.ExecutedStatement statement)
+            throws SQLException {
+        List<String> plan = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement explain = statement.prepare(connection, "EXPLAIN ");
+                ResultSet resultSet = explain.executeQuery()) {
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+        }
+
+        return plan;
+    }
+
+    private static Consumer<RepositoryQueryPlanTest> call(Consumer<RepositoryQueryPlanTest> query) {
+        return query;
+    }
+
+    private static void callSqlQueryFromFile(DataSource dataSource, String fileName) {
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(
+                    connection, new ClassPathResource("database/query-plan/" + fileName)
+            );
+        } catch (SQLException e) {
+            throw new DataProcessingException("Cannot connect to the database", e);
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecordingConfig {
+        @Bean
+        static ResultSetRowCounter resultSetRowCounter() {
+            return new ResultSetRowCounter();
+        }
+    }
+}
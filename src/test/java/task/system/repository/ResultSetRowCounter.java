@@ -0,0 +1,178 @@
+package task.system.repository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the {@link DataSource} bean so every JDBC result set handed out by it counts the rows
+ * read through {@link ResultSet#next()} and the bytes of the column values read from them,
+ * and every executed prepared statement is recorded with its SQL and parameter bindings,
+ * exactly as the repositories sent them. Bytes are counted as the UTF-8 length of the text
+ * value of every non-null column read.
+ */
+public class ResultSetRowCounter implements BeanPostProcessor {
+    private static final Set<Class<?>> WRAPPED_TYPES = Set.of(Connection.class,
+            Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class);
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery");
+
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final Map<Object, ExecutedStatement> preparedStatements =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+    private final List<ExecutedStatement> executedStatements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource ? proxy(DataSource.class, bean) : bean;
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    List<ExecutedStatement> getExecutedStatements() {
+        return List.copyOf(executedStatements);
+    }
+
+    public void reset() {
+        rows.set(0);
+        bytes.set(0);
+        executedStatements.clear();
+    }
+
+    private <T> T proxy(Class<T> type, Object target) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> invoke(proxy, target, method, args)));
+    }
+
+    private Object invoke(Object proxy, Object target, Method method, Object[] args)
+            throws Throwable {
+        if (method.getName().equals("equals")) {
+            return proxy == args[0];
+        }
+
+        if (method.getName().equals("hashCode")) {
+            return System.identityHashCode(proxy);
+        }
+
+        Object result;
+
+        try {
+            result = method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+
+        if (target instanceof ResultSet) {
+            count(method, result);
+        }
+
+        if (target instanceof PreparedStatement) {
+            record(target, method, args);
+        } else if (target instanceof Connection && method.getName().equals("prepareStatement")) {
+            preparedStatements.put(result, new ExecutedStatement((String) args[0]));
+        }
+
+        return result != null && WRAPPED_TYPES.contains(method.getReturnType())
+                ? proxy(method.getReturnType(), result)
+                : result;
+    }
+
+    private void count(Method method, Object result) {
+        if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+            rows.incrementAndGet();
+        } else if (method.getName().startsWith("get") && result != null
+                && method.getParameterCount() > 0 && !method.getName().equals("getMetaData")) {
+            bytes.addAndGet(String.valueOf(result).getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    private void record(Object statement, Method method, Object[] args) {
+        ExecutedStatement prepared = preparedStatements.get(statement);
+
+        if (prepared == null) {
+            return;
+        }
+
+        if (method.getName().startsWith("set") && args != null && args.length >= 2
+                && args[0] instanceof Integer) {
+            prepared.bindings.add(new ParameterBinding(method, args));
+        } else if (method.getName().equals("clearParameters")) {
+            prepared.bindings.clear();
+        } else if (EXECUTE_METHODS.contains(method.getName()) && args == null) {
+            executedStatements.add(prepared.copy());
+        } else if (method.getName().equals("close")) {
+            preparedStatements.remove(statement);
+        }
+    }
+
+    static class ExecutedStatement {
+        private final String sql;
+        private final List<ParameterBinding> bindings;
+
+        private ExecutedStatement(String sql) {
+            this(sql, new ArrayList<>());
+        }
+
+        private ExecutedStatement(String sql, List<ParameterBinding> bindings) {
+            this.sql = sql;
+            this.bindings = bindings;
+        }
+
+        String getSql() {
+            return sql;
+        }
+
+        /**
+         * Prepares {@code prefix + sql} on the given connection with the recorded bindings,
+         * e.g. to EXPLAIN the statement with the values it was executed with.
+         */
+        PreparedStatement prepare(Connection connection, String prefix) throws SQLException {
+            PreparedStatement statement = connection.prepareStatement(prefix + sql);
+
+            for (ParameterBinding binding : bindings) {
+                binding.apply(statement);
+            }
+
+            return statement;
+        }
+
+        private ExecutedStatement copy() {
+            return new ExecutedStatement(sql, List.copyOf(bindings));
+        }
+    }
+
+    private record ParameterBinding(Method setter, Object[] args) {
+        private void apply(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (IllegalAccessException e) {
+                throw new SQLException("Can't replay " + setter.getName(), e);
+            } catch (InvocationTargetException e) {
+                throw new SQLException("Can't replay " + setter.getName(), e.getCause());
+            }
+        }
+    }
+}
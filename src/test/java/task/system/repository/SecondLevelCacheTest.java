@@ -0,0 +1,150 @@
+package task.system.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import task.system.exception.DataProcessingException;
+import task.system.model.Project;
+import task.system.model.Role;
+import task.system.repository.label.LabelRepository;
+import task.system.repository.project.ProjectRepository;
+import task.system.repository.role.RoleRepository;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+        "hibernate.cache.use_second_level_cache=true",
+        "hibernate.cache.use_query_cache=true",
+        "hibernate.cache.region.factory_class=jcache",
+        "hibernate.javax.cache.provider="
+                + "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "hibernate.javax.cache.missing_cache_strategy=create",
+        "hibernate.generate_statistics=true"
+})
+class SecondLevelCacheTest {
+    private static final Long PROJECT_ID = 1L;
+
+    @Autowired
+    private SessionFactory sessionFactory;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private LabelRepository labelRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    static void setUp(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            callSqlQueryFromFile(connection, "add_project_to_projects_table.sql");
+            callSqlQueryFromFile(connection, "add_users_ids_to_projects_users_table.sql");
+            callSqlQueryFromFile(
+                    connection, "add_users_ids_to_projects_administrators_table.sql"
+            );
+        } catch (SQLException e) {
+            throw new DataProcessingException("Can't connect to database", e);
+        }
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    @SneakyThrows
+    static void teardown(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            callSqlQueryFromFile(
+                    connection, "delete_user_ids_from_projects_administrators_table.sql"
+            );
+            callSqlQueryFromFile(connection, "delete_user_ids_from_projects_users_table.sql");
+            callSqlQueryFromFile(connection, "delete_projects_projects_table.sql");
+        }
+    }
+
+    @BeforeEach
+    void clearCache() {
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Find project by id twice, second call should hit the project regions")
+    void findById_CalledTwice_ShouldHitCache() {
+        //When
+        projectRepository.findById(PROJECT_ID);
+        projectRepository.findById(PROJECT_ID);
+
+        //Then
+        assertEquals(1, statistics.getDomainDataRegionStatistics("projects").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("projects.users").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("projects.administrators")
+                .getHitCount());
+    }
+
+    @Test
+    @DisplayName("Find default labels and role twice, second call should hit query cache")
+    void defaultLabelsAndRole_CalledTwice_ShouldHitQueryCache() {
+        //When
+        labelRepository.findDefaultLabels();
+        labelRepository.findDefaultLabels();
+        roleRepository.findByName(Role.RoleName.ROLE_USER);
+        roleRepository.findByName(Role.RoleName.ROLE_USER);
+
+        //Then
+        assertEquals(1, statistics.getQueryRegionStatistics("labels.defaults").getHitCount());
+        assertEquals(1, statistics.getQueryRegionStatistics("roles.by-name").getHitCount());
+    }
+
+    @Test
+    @DisplayName("Update and delete project, should not return stale cached project")
+    @Sql(scripts = "classpath:database/project/restore_project_with_id_1_to_last_state.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateAndDelete_CachedProject_ShouldInvalidateCache() {
+        //Given
+        Project project = projectRepository.findById(PROJECT_ID).orElseThrow();
+        project.setDescription("updated description");
+
+        //When
+        projectRepository.update(project);
+
+        //Then
+        assertEquals("updated description",
+                projectRepository.findById(PROJECT_ID).orElseThrow().getDescription());
+
+        //When
+        projectRepository.deleteById(PROJECT_ID);
+
+        //Then
+        assertTrue(projectRepository.findById(PROJECT_ID).isEmpty());
+    }
+
+    private static void callSqlQueryFromFile(Connection connection, String fileName) {
+        ScriptUtils.executeSqlScript(
+                connection, new ClassPathResource("database/project/" + fileName)
+        );
+    }
+}
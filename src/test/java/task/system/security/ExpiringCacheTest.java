@@ -0,0 +1,93 @@
+package task.system.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringCacheTest {
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private ExpiringCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ExpiringCache<>(3, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Get before expiry, should return the value")
+    void get_BeforeExpiry_ShouldReturnValue() {
+        //When
+        cache.put("key", "value", NOW.plusSeconds(1));
+
+        //Then
+        assertEquals(Optional.of("value"), cache.get("key"));
+    }
+
+    @Test
+    @DisplayName("Get at expiry, should return empty and drop the entry")
+    void get_AtExpiry_ShouldReturnEmptyAndRemoveEntry() {
+        //When
+        cache.put("key", "value", NOW);
+
+        //Then
+        assertTrue(cache.get("key").isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Put over max size, should remove expired entries first")
+    void put_OverMaxSize_ShouldRemoveExpiredEntriesFirst() {
+        //Given
+        cache.put("expired", "value", NOW);
+        cache.put("second", "value", NOW.plusSeconds(1));
+        cache.put("third", "value", NOW.plusSeconds(2));
+
+        //When
+        cache.put("fourth", "value", NOW.plusSeconds(3));
+
+        //Then
+        assertEquals(3, cache.size());
+        assertTrue(cache.get("expired").isEmpty());
+        assertTrue(cache.get("second").isPresent());
+    }
+
+    @Test
+    @DisplayName("Put over max size without expired entries, should remove the soonest expiring")
+    void put_OverMaxSizeWithoutExpiredEntries_ShouldRemoveSoonestExpiring() {
+        //Given
+        cache.put("first", "value", NOW.plusSeconds(1));
+        cache.put("second", "value", NOW.plusSeconds(2));
+        cache.put("third", "value", NOW.plusSeconds(3));
+
+        //When
+        cache.put("fourth", "value", NOW.plusSeconds(4));
+
+        //Then
+        assertEquals(3, cache.size());
+        assertTrue(cache.get("first").isEmpty());
+        assertTrue(cache.get("fourth").isPresent());
+    }
+
+    @Test
+    @DisplayName("Evict if with predicate, should remove only matching values")
+    void evictIf_WithPredicate_ShouldRemoveMatchingValues() {
+        //Given
+        cache.put("first", "remove", NOW.plusSeconds(1));
+        cache.put("second", "keep", NOW.plusSeconds(1));
+
+        //When
+        cache.evictIf("remove"::equals);
+
+        //Then
+        assertTrue(cache.get("first").isEmpty());
+        assertTrue(cache.get("second").isPresent());
+    }
+}
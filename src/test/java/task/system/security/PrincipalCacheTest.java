@@ -0,0 +1,73 @@
+package task.system.security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import task.system.model.Role;
+
+class PrincipalCacheTest {
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Get after ttl, should not return the principal")
+    void get_AfterTtl_ShouldReturnEmpty() throws InterruptedException {
+        //Given
+        PrincipalCache principalCache = new PrincipalCache(1, 10);
+
+        //When
+        principalCache.put("user1", createPrincipal(1L));
+        Thread.sleep(5);
+
+        //Then
+        assertTrue(principalCache.get("user1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Evict by user id, should remove the principal")
+    void evict_ByUserId_ShouldRemovePrincipal() {
+        //Given
+        PrincipalCache principalCache = new PrincipalCache(60000, 10);
+        principalCache.put("user1", createPrincipal(1L));
+        principalCache.put("user2", createPrincipal(2L));
+
+        //When
+        principalCache.evict(1L);
+
+        //Then
+        assertTrue(principalCache.get("user1").isEmpty());
+        assertTrue(principalCache.get("user2").isPresent());
+    }
+
+    @Test
+    @DisplayName("Evict after completion of rolled back update, should remove the principal")
+    void evictAfterCompletion_WithRollback_ShouldRemovePrincipal() {
+        //Given
+        PrincipalCache principalCache = new PrincipalCache(60000, 10);
+        principalCache.put("user1", createPrincipal(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        //When
+        principalCache.evictAfterCompletion(1L);
+
+        //Then
+        assertTrue(principalCache.get("user1").isPresent());
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertTrue(principalCache.get("user1").isEmpty());
+    }
+
+    private UserPrincipal createPrincipal(Long id) {
+        return new UserPrincipal(id, "user" + id, "user" + id + "@example.com",
+                "user" + id, "user" + id, Set.of(Role.RoleName.ROLE_USER), true);
+    }
+}
@@ -0,0 +1,243 @@
+package task.system.service.attachment;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import task.system.config.ExecutorThreadFactory;
+import task.system.model.Attachment;
+import task.system.model.Task;
+import task.system.repository.attachment.AttachmentRepository;
+import task.system.service.attachment.storage.BlobStore;
+import task.system.service.task.TaskService;
+import task.system.service.user.UserService;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentServiceImplTest {
+    private static final Long TASK_ID = 1L;
+    private static final int READ_AHEAD_BYTES = 4;
+
+    @Mock
+    private BlobStore blobStore;
+    @Mock
+    private AttachmentRepository attachmentRepository;
+    @Mock
+    private TaskService taskService;
+    @Mock
+    private UserService userService;
+
+    private AttachmentServiceImpl attachmentService;
+
+    @BeforeEach
+    void setUp() {
+        attachmentService = new AttachmentServiceImpl(
+                blobStore, attachmentRepository, taskService, userService,
+                new AttachmentUploadTracker(), ExecutorThreadFactory.platform(),
+                2, 2, 10, READ_AHEAD_BYTES
+        );
+        Task task = new Task();
+        task.setName("task");
+        when(taskService.findById(TASK_ID)).thenReturn(task);
+    }
+
+    @AfterEach
+    void tearDown() {
+        attachmentService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Download all attachments, should write one zip entry per attachment")
+    void downloadAllByTaskId_WithAttachments_ShouldWriteEntriesInOrder() throws IOException {
+        //Given
+        List<Attachment> attachments = List.of(
+                createAttachment("first.txt", "key1"), createAttachment("second.txt", "key2")
+        );
+        when(attachmentRepository.findAllByTaskId(TASK_ID)).thenReturn(attachments);
+        when(blobStore.open("key1")).thenReturn(content("first content"));
+        when(blobStore.open("key2")).thenReturn(content("second content"));
+
+        //When
+        byte[] archive = download();
+
+        //Then
+        try (ZipInputStream zipInputStream = new ZipInputStream(
+                new ByteArrayInputStream(archive))) {
+            assertEntry(zipInputStream, "first.txt", "first content");
+            assertEntry(zipInputStream, "second.txt", "second content");
+            assertNull(zipInputStream.getNextEntry());
+        }
+    }
+
+    @Test
+    @DisplayName("Download all attachments when a blob fails mid-stream, should abort archive")
+    void downloadAllByTaskId_BlobFailsMidStream_ShouldThrowAndCloseNextBlob()
+            throws IOException {
+        //Given
+        List<Attachment> attachments = List.of(
+                createAttachment("first.txt", "key1"),
+                createAttachment("second.txt", "key2"),
+                createAttachment("third.txt", "key3")
+        );
+        InputStream failing = new FilterInputStream(content("second content")) {
+            private int readBytes;
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (length > 0 && readBytes >= READ_AHEAD_BYTES) {
+                    throw new IOException("connection reset");
+                }
+
+                int read = super.read(buffer, offset, Math.min(length, READ_AHEAD_BYTES));
+                readBytes += read;
+                return read;
+            }
+        };
+        InputStream third = spy(content("third content"));
+        when(attachmentRepository.findAllByTaskId(TASK_ID)).thenReturn(attachments);
+        when(blobStore.open("key1")).thenReturn(content("first content"));
+        when(blobStore.open("key2")).thenReturn(failing);
+        when(blobStore.open("key3")).thenReturn(third);
+
+        //When
+        IOException actual = assertThrows(IOException.class, this::download);
+
+        //Then
+        assertEquals("connection reset", actual.getMessage());
+
+        //Verify
+        verify(third, timeout(5000)).close();
+    }
+
+    @Test
+    @DisplayName("Download all attachments with duplicate names, should close the blob "
+            + "of the rejected entry")
+    void downloadAllByTaskId_WithDuplicateFilename_ShouldThrowAndCloseBlob() throws IOException {
+        //Given
+        List<Attachment> attachments = List.of(
+                createAttachment("same.txt", "key1"), createAttachment("same.txt", "key2")
+        );
+        InputStream second = spy(content("second content"));
+        when(attachmentRepository.findAllByTaskId(TASK_ID)).thenReturn(attachments);
+        when(blobStore.open("key1")).thenReturn(content("first content"));
+        when(blobStore.open("key2")).thenReturn(second);
+
+        //When
+        ZipException actual = assertThrows(ZipException.class, this::download);
+
+        //Then
+        assertEquals("duplicate entry: same.txt", actual.getMessage());
+
+        //Verify
+        verify(second).close();
+    }
+
+    @Test
+    @DisplayName("Download all attachments, should read ahead the next blob while writing")
+    void downloadAllByTaskId_WithSeveralBlobs_ShouldReadAheadNextBlob() throws IOException {
+        //Given
+        List<Attachment> attachments = List.of(
+                createAttachment("first.txt", "key1"), createAttachment("second.txt", "key2")
+        );
+        CountDownLatch secondBlobRead = new CountDownLatch(1);
+        AtomicBoolean readAheadOverlapped = new AtomicBoolean();
+        InputStream first = new FilterInputStream(content("first content")) {
+            private int readBytes;
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (readBytes >= READ_AHEAD_BYTES && !readAheadOverlapped.get()) {
+                    readAheadOverlapped.set(await(secondBlobRead));
+                }
+
+                int read = super.read(buffer, offset, length);
+                readBytes += Math.max(read, 0);
+                return read;
+            }
+        };
+        InputStream second = new FilterInputStream(content("second content")) {
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                secondBlobRead.countDown();
+                return super.read(buffer, offset, length);
+            }
+        };
+        when(attachmentRepository.findAllByTaskId(TASK_ID)).thenReturn(attachments);
+        when(blobStore.open("key1")).thenReturn(first);
+        when(blobStore.open("key2")).thenReturn(second);
+
+        //When
+        byte[] archive = download();
+
+        //Then
+        assertTrue(readAheadOverlapped.get(),
+                "Second blob was not read while the first entry was written");
+        try (ZipInputStream zipInputStream = new ZipInputStream(
+                new ByteArrayInputStream(archive))) {
+            assertEntry(zipInputStream, "first.txt", "first content");
+            assertEntry(zipInputStream, "second.txt", "second content");
+        }
+    }
+
+    private byte[] download() throws IOException {
+        StreamingResponseBody body = attachmentService.downloadAllByTaskId(TASK_ID).getBody();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private void assertEntry(ZipInputStream zipInputStream, String name, String content)
+            throws IOException {
+        ZipEntry entry = zipInputStream.getNextEntry();
+        assertEquals(name, entry.getName());
+        assertArrayEquals(content.getBytes(StandardCharsets.UTF_8),
+                zipInputStream.readAllBytes());
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private InputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Attachment createAttachment(String filename, String storageKey) {
+        Attachment attachment = new Attachment();
+        attachment.setTaskId(TASK_ID);
+        attachment.setFilename(filename);
+        attachment.setStorageKey(storageKey);
+        return attachment;
+    }
+}
@@ -0,0 +1,128 @@
+package task.system.service.attachment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import task.system.dto.attachment.AttachmentUploadProgressDto;
+import task.system.exception.DataProcessingException;
+import task.system.exception.EntityNotFoundException;
+
+class AttachmentUploadTrackerTest {
+    private static final Long OWNER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final String UPLOAD_ID = "upload-1";
+
+    private final AttachmentUploadTracker uploadTracker = new AttachmentUploadTracker();
+
+    @Test
+    @DisplayName("Read tracked stream, should report uploaded bytes")
+    void track_ReadStream_ShouldReportUploadedBytes() throws IOException {
+        //Given
+        byte[] content = new byte[1000];
+        uploadTracker.start(OWNER_ID, UPLOAD_ID);
+        LongConsumer progress = uploadTracker.track(
+                OWNER_ID, UPLOAD_ID, 0, "file.txt", content.length
+        );
+
+        //When
+        try (InputStream inputStream = new ProgressInputStream(
+                new ByteArrayInputStream(content), progress)) {
+            inputStream.readNBytes(400);
+        }
+
+        //Then
+        List<AttachmentUploadProgressDto> actual = uploadTracker.getProgress(OWNER_ID, UPLOAD_ID);
+        assertEquals(1, actual.size());
+        assertEquals(0, actual.get(0).getIndex());
+        assertEquals("file.txt", actual.get(0).getFilename());
+        assertEquals(400, actual.get(0).getUploadedBytes());
+        assertEquals(1000, actual.get(0).getTotalBytes());
+    }
+
+    @Test
+    @DisplayName("Track two files with the same name, should report them separately by index")
+    void track_SameFilenameTwice_ShouldTrackEachPart() {
+        //Given
+        uploadTracker.start(OWNER_ID, UPLOAD_ID);
+        LongConsumer second = uploadTracker.track(OWNER_ID, UPLOAD_ID, 1, "file.txt", 20);
+        LongConsumer first = uploadTracker.track(OWNER_ID, UPLOAD_ID, 0, "file.txt", 10);
+
+        //When
+        first.accept(10);
+        second.accept(5);
+
+        //Then
+        List<AttachmentUploadProgressDto> actual = uploadTracker.getProgress(OWNER_ID, UPLOAD_ID);
+        assertEquals(2, actual.size());
+        assertEquals(0, actual.get(0).getIndex());
+        assertEquals(10, actual.get(0).getUploadedBytes());
+        assertEquals(1, actual.get(1).getIndex());
+        assertEquals(5, actual.get(1).getUploadedBytes());
+    }
+
+    @Test
+    @DisplayName("Get progress of another user's upload, should throw EntityNotFoundException")
+    void getProgress_AnotherOwner_ShouldThrowException() {
+        //Given
+        uploadTracker.start(OWNER_ID, UPLOAD_ID);
+        uploadTracker.track(OWNER_ID, UPLOAD_ID, 0, "file.txt", 10);
+
+        //When
+        //Then
+        assertThrows(EntityNotFoundException.class,
+                () -> uploadTracker.getProgress(OTHER_USER_ID, UPLOAD_ID));
+    }
+
+    @Test
+    @DisplayName("Start upload with id already in progress, should throw DataProcessingException")
+    void start_IdInProgress_ShouldThrowException() {
+        //Given
+        uploadTracker.start(OWNER_ID, UPLOAD_ID);
+
+        //When
+        //Then
+        assertThrows(DataProcessingException.class,
+                () -> uploadTracker.start(OWNER_ID, UPLOAD_ID));
+    }
+
+    @Test
+    @DisplayName("Start upload with id used by another user, should track both separately")
+    void start_IdUsedByAnotherOwner_ShouldTrackSeparately() {
+        //Given
+        uploadTracker.start(OWNER_ID, UPLOAD_ID);
+        uploadTracker.track(OWNER_ID, UPLOAD_ID, 0, "mine.txt", 10);
+
+        //When
+        uploadTracker.start(OTHER_USER_ID, UPLOAD_ID);
+        uploadTracker.track(OTHER_USER_ID, UPLOAD_ID, 0, "theirs.txt", 10);
+
+        //Then
+        assertEquals("mine.txt",
+                uploadTracker.getProgress(OWNER_ID, UPLOAD_ID).get(0).getFilename());
+        assertEquals("theirs.txt",
+                uploadTracker.getProgress(OTHER_USER_ID, UPLOAD_ID).get(0).getFilename());
+    }
+
+    @Test
+    @DisplayName("Finish upload, should remove its entry")
+    void finish_TrackedUpload_ShouldRemoveEntry() {
+        //Given
+        uploadTracker.start(OWNER_ID, UPLOAD_ID);
+        uploadTracker.track(OWNER_ID, UPLOAD_ID, 0, "file.txt", 10);
+
+        //When
+        uploadTracker.finish(OWNER_ID, UPLOAD_ID);
+
+        //Then
+        assertEquals(0, uploadTracker.getActiveUploads());
+        assertThrows(EntityNotFoundException.class,
+                () -> uploadTracker.getProgress(OWNER_ID, UPLOAD_ID));
+    }
+}
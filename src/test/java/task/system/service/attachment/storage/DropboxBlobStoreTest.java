@@ -0,0 +1,120 @@
+package task.system.service.attachment.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.dropbox.core.DbxException;
+import com.dropbox.core.v2.DbxClientV2;
+import com.dropbox.core.v2.files.CommitInfo;
+import com.dropbox.core.v2.files.DbxUserFilesRequests;
+import com.dropbox.core.v2.files.FileMetadata;
+import com.dropbox.core.v2.files.UploadBuilder;
+import com.dropbox.core.v2.files.UploadSessionAppendV2Uploader;
+import com.dropbox.core.v2.files.UploadSessionCursor;
+import com.dropbox.core.v2.files.UploadSessionFinishUploader;
+import com.dropbox.core.v2.files.UploadSessionStartResult;
+import com.dropbox.core.v2.files.UploadSessionStartUploader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DropboxBlobStoreTest {
+    private static final long CHUNK_SIZE = 4;
+    private static final String SESSION_ID = "session-1";
+    private static final String FILE_ID = "id:file-1";
+
+    @Mock
+    private DbxClientV2 dbxClient;
+    @Mock
+    private DbxUserFilesRequests files;
+    @Mock
+    private UploadSessionStartUploader startUploader;
+    @Mock
+    private UploadSessionStartResult startResult;
+    @Mock
+    private UploadSessionAppendV2Uploader appendUploader;
+    @Mock
+    private UploadSessionFinishUploader finishUploader;
+    @Mock
+    private UploadBuilder uploadBuilder;
+    @Mock
+    private FileMetadata fileMetadata;
+
+    private DropboxBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new DropboxBlobStore(dbxClient, new SimpleMeterRegistry(), CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Store file larger than chunk size, should upload it in session chunks")
+    void store_FileLargerThanChunk_ShouldUploadInSession() throws DbxException, IOException {
+        //Given
+        InputStream content = new ByteArrayInputStream(new byte[10]);
+        when(dbxClient.files()).thenReturn(files);
+        when(files.uploadSessionStart()).thenReturn(startUploader);
+        when(startUploader.uploadAndFinish(content, CHUNK_SIZE)).thenReturn(startResult);
+        when(startResult.getSessionId()).thenReturn(SESSION_ID);
+        when(files.uploadSessionAppendV2(any(UploadSessionCursor.class)))
+                .thenReturn(appendUploader);
+        when(files.uploadSessionFinish(any(UploadSessionCursor.class), any(CommitInfo.class)))
+                .thenReturn(finishUploader);
+        when(finishUploader.uploadAndFinish(content, 2L)).thenReturn(fileMetadata);
+        when(fileMetadata.getId()).thenReturn(FILE_ID);
+
+        //When
+        String actual = blobStore.store("file.txt", content, 10);
+
+        //Then
+        assertEquals(FILE_ID, actual);
+
+        //Verify
+        ArgumentCaptor<UploadSessionCursor> appendCursor =
+                ArgumentCaptor.forClass(UploadSessionCursor.class);
+        verify(files).uploadSessionAppendV2(appendCursor.capture());
+        assertEquals(SESSION_ID, appendCursor.getValue().getSessionId());
+        assertEquals(4, appendCursor.getValue().getOffset());
+        verify(appendUploader).uploadAndFinish(content, CHUNK_SIZE);
+
+        ArgumentCaptor<UploadSessionCursor> finishCursor =
+                ArgumentCaptor.forClass(UploadSessionCursor.class);
+        ArgumentCaptor<CommitInfo> commitInfo = ArgumentCaptor.forClass(CommitInfo.class);
+        verify(files).uploadSessionFinish(finishCursor.capture(), commitInfo.capture());
+        assertEquals(SESSION_ID, finishCursor.getValue().getSessionId());
+        assertEquals(8, finishCursor.getValue().getOffset());
+        assertEquals("/file.txt", commitInfo.getValue().getPath());
+    }
+
+    @Test
+    @DisplayName("Store file not larger than chunk size, should upload it in one request")
+    void store_FileWithinChunk_ShouldUploadInOneRequest() throws DbxException, IOException {
+        //Given
+        InputStream content = new ByteArrayInputStream(new byte[4]);
+        when(dbxClient.files()).thenReturn(files);
+        when(files.uploadBuilder("/file.txt")).thenReturn(uploadBuilder);
+        when(uploadBuilder.uploadAndFinish(content)).thenReturn(fileMetadata);
+        when(fileMetadata.getId()).thenReturn(FILE_ID);
+
+        //When
+        String actual = blobStore.store("file.txt", content, CHUNK_SIZE);
+
+        //Then
+        assertEquals(FILE_ID, actual);
+
+        //Verify
+        verify(files, never()).uploadSessionStart();
+    }
+}
@@ -0,0 +1,102 @@
+package task.system.service.attachment.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import task.system.exception.DataProcessingException;
+import task.system.exception.EntityNotFoundException;
+
+class LocalFileSystemBlobStoreTest {
+    private static final byte[] CONTENT = "attachment content".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path rootDirectory;
+
+    private LocalFileSystemBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new LocalFileSystemBlobStore(rootDirectory.toString());
+    }
+
+    @Test
+    @DisplayName("Store same content twice, should return same key and keep one file")
+    void store_SameContentTwice_ShouldDeduplicate() throws IOException {
+        //When
+        String first = store("first.txt", CONTENT);
+        String second = store("second.txt", CONTENT);
+
+        //Then
+        assertEquals(first, second);
+        assertEquals(1, countStoredFiles());
+    }
+
+    @Test
+    @DisplayName("Store different content, should return different keys")
+    void store_DifferentContent_ShouldReturnDifferentKeys() {
+        //When
+        String first = store("first.txt", CONTENT);
+        String second = store("second.txt", new byte[] {1});
+
+        //Then
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Transfer stored content, should write the same bytes")
+    void transferTo_StoredContent_ShouldWriteSameBytes() throws IOException {
+        //Given
+        String key = store("file.txt", CONTENT);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //When
+        blobStore.transferTo(key, outputStream);
+
+        //Then
+        assertArrayEquals(CONTENT, outputStream.toByteArray());
+        try (InputStream inputStream = blobStore.open(key)) {
+            assertArrayEquals(CONTENT, inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Open by unknown key, should throw EntityNotFoundException")
+    void open_UnknownKey_ShouldThrowException() {
+        //Given
+        String key = "0".repeat(64);
+
+        //Then
+        assertThrows(EntityNotFoundException.class, () -> blobStore.open(key));
+    }
+
+    @Test
+    @DisplayName("Open by key outside of the store, should throw DataProcessingException")
+    void open_InvalidKey_ShouldThrowException() {
+        //Then
+        assertThrows(DataProcessingException.class, () -> blobStore.open("../../etc/passwd"));
+    }
+
+    private String store(String filename, byte[] content) {
+        return blobStore.store(filename, new ByteArrayInputStream(content), content.length);
+    }
+
+    private long countStoredFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(rootDirectory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
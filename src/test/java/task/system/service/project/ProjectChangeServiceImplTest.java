@@ -0,0 +1,162 @@
+package task.system.service.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import task.system.dto.project.ProjectChangeDto;
+import task.system.dto.project.ProjectChangesResponseDto;
+import task.system.exception.DataProcessingException;
+import task.system.mapper.ProjectChangeMapper;
+import task.system.model.ProjectChange;
+import task.system.model.User;
+import task.system.repository.project.ProjectChangeRepository;
+import task.system.service.user.UserService;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectChangeServiceImplTest {
+    private static final Long PROJECT_ID = 1L;
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private ProjectChangeRepository projectChangeRepository;
+    @Mock
+    private ProjectChangeMapper projectChangeMapper;
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private UserService userService;
+
+    private ProjectChangeServiceImpl projectChangeService;
+
+    @BeforeEach
+    void setUp() {
+        projectChangeService = new ProjectChangeServiceImpl(
+                projectChangeRepository, projectChangeMapper, projectService, userService,
+                PAGE_SIZE, 604800000L
+        );
+    }
+
+    @Test
+    @DisplayName("Get changes with more changes than page size, should return first page")
+    void getChanges_MoreChangesThanPageSize_ShouldReturnFirstPage() {
+        //Given
+        User user = createUser();
+        List<ProjectChange> changes = List.of(
+                createChange(11L), createChange(12L), createChange(13L)
+        );
+
+        //When
+        when(userService.getAuthenticatedUser()).thenReturn(user);
+        when(projectService.isUser(PROJECT_ID, user.getId())).thenReturn(true);
+        when(projectChangeRepository.findAllByProjectIdAfter(PROJECT_ID, 10L, PAGE_SIZE + 1))
+                .thenReturn(changes);
+        when(projectChangeRepository.findFirstSequence()).thenReturn(Optional.of(5L));
+        when(projectChangeRepository.findLastSequence()).thenReturn(Optional.of(20L));
+        when(projectChangeMapper.toDto(any(ProjectChange.class)))
+                .thenReturn(new ProjectChangeDto());
+
+        //Then
+        ProjectChangesResponseDto actual = projectChangeService.getChanges(PROJECT_ID, 10L);
+        assertEquals(PAGE_SIZE, actual.getChanges().size());
+        assertEquals(12L, actual.getNext());
+        assertTrue(actual.isHasMore());
+        assertFalse(actual.isResyncRequired());
+    }
+
+    @Test
+    @DisplayName("Get changes of last page, should return last sequence as next cursor")
+    void getChanges_LastPage_ShouldReturnLastSequence() {
+        //Given
+        User user = createUser();
+
+        //When
+        when(userService.getAuthenticatedUser()).thenReturn(user);
+        when(projectService.isUser(PROJECT_ID, user.getId())).thenReturn(true);
+        when(projectChangeRepository.findAllByProjectIdAfter(PROJECT_ID, 10L, PAGE_SIZE + 1))
+                .thenReturn(List.of());
+        when(projectChangeRepository.findFirstSequence()).thenReturn(Optional.of(5L));
+        when(projectChangeRepository.findLastSequence()).thenReturn(Optional.of(20L));
+
+        //Then
+        ProjectChangesResponseDto actual = projectChangeService.getChanges(PROJECT_ID, 10L);
+        assertTrue(actual.getChanges().isEmpty());
+        assertEquals(20L, actual.getNext());
+        assertFalse(actual.isHasMore());
+        assertFalse(actual.isResyncRequired());
+    }
+
+    @Test
+    @DisplayName("Get changes since compacted sequence, should require resync")
+    void getChanges_SinceCompactedSequence_ShouldRequireResync() {
+        //Given
+        User user = createUser();
+
+        //When
+        when(userService.getAuthenticatedUser()).thenReturn(user);
+        when(projectService.isUser(PROJECT_ID, user.getId())).thenReturn(true);
+        when(projectChangeRepository.findAllByProjectIdAfter(PROJECT_ID, 3L, PAGE_SIZE + 1))
+                .thenReturn(List.of(createChange(11L)));
+        when(projectChangeRepository.findFirstSequence()).thenReturn(Optional.of(10L));
+        when(projectChangeRepository.findLastSequence()).thenReturn(Optional.of(20L));
+
+        //Then
+        ProjectChangesResponseDto actual = projectChangeService.getChanges(PROJECT_ID, 3L);
+        assertTrue(actual.getChanges().isEmpty());
+        assertEquals(20L, actual.getNext());
+        assertTrue(actual.isResyncRequired());
+
+        //Verify
+        verify(projectChangeMapper, never()).toDto(any(ProjectChange.class));
+    }
+
+    @Test
+    @DisplayName("Get changes of not own project, should throw exception")
+    void getChanges_NotOwnProject_ShouldThrowException() {
+        //Given
+        User user = createUser();
+
+        //When
+        when(userService.getAuthenticatedUser()).thenReturn(user);
+        when(projectService.isUser(PROJECT_ID, user.getId())).thenReturn(false);
+
+        //Then
+        assertThrows(DataProcessingException.class,
+                () -> projectChangeService.getChanges(PROJECT_ID, 0L));
+
+        //Verify
+        verify(projectChangeRepository, never())
+                .findAllByProjectIdAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("user1");
+        user.setEmail("user1@example.com");
+        return user;
+    }
+
+    private ProjectChange createChange(Long id) {
+        ProjectChange change = ProjectChange.of(
+                PROJECT_ID, ProjectChange.EntityType.TASK, id, ProjectChange.Operation.UPDATE
+        );
+        change.setId(id);
+        return change;
+    }
+}
@@ -0,0 +1,142 @@
+package task.system.service.project;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ProjectMembershipIndexTest {
+    private static final Long PROJECT_ID = 1L;
+    private static final Long USER_ID = 2L;
+
+    private final ProjectMembershipIndex membershipIndex =
+            new ProjectMembershipIndex(true, 60000, 1000);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Put membership read before a committed eviction, should not cache it")
+    void putIfCurrent_AfterEviction_ShouldNotCacheStaleMembership() {
+        //Given
+        long version = membershipIndex.getVersion(PROJECT_ID);
+        ProjectMembership stale = ProjectMembership.of(Set.of(USER_ID), Set.of());
+
+        //When
+        membershipIndex.evictAfterCommit(PROJECT_ID);
+        membershipIndex.putIfCurrent(PROJECT_ID, version, stale);
+
+        //Then
+        assertTrue(membershipIndex.get(PROJECT_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Put membership with current version, should cache it")
+    void putIfCurrent_WithCurrentVersion_ShouldCacheMembership() {
+        //Given
+        long version = membershipIndex.getVersion(PROJECT_ID);
+
+        //When
+        membershipIndex.putIfCurrent(
+                PROJECT_ID, version, ProjectMembership.of(Set.of(USER_ID), Set.of())
+        );
+
+        //Then
+        assertTrue(membershipIndex.get(PROJECT_ID).orElseThrow().isUser(USER_ID));
+    }
+
+    @Test
+    @DisplayName("Get membership older than ttl, should return empty")
+    void get_AfterTtl_ShouldReturnEmpty() {
+        //Given
+        ProjectMembershipIndex expiringIndex = new ProjectMembershipIndex(true, 0, 1000);
+
+        //When
+        expiringIndex.putIfCurrent(PROJECT_ID, expiringIndex.getVersion(PROJECT_ID),
+                ProjectMembership.of(Set.of(USER_ID), Set.of()));
+
+        //Then
+        assertTrue(expiringIndex.get(PROJECT_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Evict after commit on disabled index, should not register synchronization")
+    void evictAfterCommit_Disabled_ShouldDoNothing() {
+        //Given
+        ProjectMembershipIndex disabledIndex = new ProjectMembershipIndex(false, 60000, 1000);
+        TransactionSynchronizationManager.initSynchronization();
+
+        //When
+        disabledIndex.evictAfterCommit(PROJECT_ID);
+
+        //Then
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        assertTrue(disabledIndex.get(PROJECT_ID).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Read memberships while they change, should never keep a stale membership")
+    void putIfCurrent_ConcurrentChanges_ShouldNotKeepStaleMembership() throws Exception {
+        //Given
+        AtomicLong committedUserId = new AtomicLong();
+        AtomicBoolean changing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> readers = new ArrayList<>();
+
+        //When
+        try {
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(() -> {
+                    start.await();
+
+                    while (changing.get()) {
+                        long version = membershipIndex.getVersion(PROJECT_ID);
+                        long userId = committedUserId.get();
+                        Thread.yield();
+                        membershipIndex.putIfCurrent(PROJECT_ID, version,
+                                ProjectMembership.of(Set.of(userId), Set.of()));
+                    }
+
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (long userId = 1; userId <= 10_000; userId++) {
+                committedUserId.set(userId);
+                membershipIndex.evictAfterCommit(PROJECT_ID);
+            }
+
+            changing.set(false);
+
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //Then
+        Optional<ProjectMembership> actual = membershipIndex.get(PROJECT_ID);
+        actual.ifPresent(membership -> assertTrue(membership.isUser(committedUserId.get())));
+    }
+}
@@ -0,0 +1,169 @@
+package task.system.service.project;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import task.system.dto.project.ProjectDetailsResponseDto;
+import task.system.mapper.ProjectMapper;
+import task.system.model.Project;
+import task.system.model.User;
+import task.system.repository.project.ProjectRepository;
+import task.system.service.user.UserService;
+import task.system.telegram.TaskSystemBot;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectRequestCacheTest {
+    private static final Long PROJECT_ID = 1L;
+
+    @Mock
+    private ProjectMapper projectMapper;
+    @Mock
+    private UserService userService;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private TaskSystemBot taskSystemBot;
+
+    private ProjectRequestCache projectRequestCache;
+    private ProjectServiceImpl projectService;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest())
+        );
+        projectRequestCache = new ProjectRequestCache();
+        projectService = new ProjectServiceImpl(
+                projectMapper, userService, projectRepository, taskSystemBot, projectRequestCache,
+                new ProjectMembershipIndex(true, 60000, 1000)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Get by id several times in one request, should load project only once")
+    void getById_CalledSeveralTimesInOneRequest_ShouldLoadProjectOnce() {
+        //Given
+        User user = createUser();
+        Project project = createProject(user);
+        ProjectDetailsResponseDto expected = createProjectDetailsResponseDto(project);
+
+        //When
+        when(projectRepository.findHeaderById(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(projectRepository.findUserIdsByProjectId(PROJECT_ID)).thenReturn(List.of(1L));
+        when(projectRepository.findAdministratorIdsByProjectId(PROJECT_ID))
+                .thenReturn(List.of(1L));
+        when(userService.getAuthenticatedUser()).thenReturn(user);
+        when(projectMapper.toDto(project, Set.of(1L), Set.of(1L))).thenReturn(expected);
+
+        //Then
+        for (int i = 0; i < 5; i++) {
+            assertSame(expected, projectService.getById(PROJECT_ID));
+        }
+        assertEquals(1, projectRequestCache.getLoadCount(PROJECT_ID));
+
+        //Verify
+        verify(projectRepository, times(1)).findHeaderById(PROJECT_ID);
+        verify(userService, times(1)).getAuthenticatedUser();
+        verify(projectMapper, times(1)).toDto(project, Set.of(1L), Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("Get by id after evict, should load project again")
+    void getById_AfterEvict_ShouldLoadProjectAgain() {
+        //Given
+        User user = createUser();
+        Project project = createProject(user);
+        ProjectDetailsResponseDto expected = createProjectDetailsResponseDto(project);
+
+        //When
+        when(projectRepository.findHeaderById(PROJECT_ID)).thenReturn(Optional.of(project));
+        when(projectRepository.findUserIdsByProjectId(PROJECT_ID)).thenReturn(List.of(1L));
+        when(projectRepository.findAdministratorIdsByProjectId(PROJECT_ID))
+                .thenReturn(List.of(1L));
+        when(userService.getAuthenticatedUser()).thenReturn(user);
+        when(projectMapper.toDto(project, Set.of(1L), Set.of(1L))).thenReturn(expected);
+
+        //Then
+        projectService.getById(PROJECT_ID);
+        projectRequestCache.evict(PROJECT_ID);
+        projectService.getById(PROJECT_ID);
+        assertEquals(2, projectRequestCache.getLoadCount(PROJECT_ID));
+
+        //Verify
+        verify(projectRepository, times(2)).findHeaderById(PROJECT_ID);
+    }
+
+    @Test
+    @DisplayName("Cache outside of request, should not store projects")
+    void put_OutsideOfRequest_ShouldNotStoreProject() {
+        //Given
+        RequestContextHolder.resetRequestAttributes();
+        ProjectDetailsResponseDto projectDetails = new ProjectDetailsResponseDto();
+
+        //When
+        projectRequestCache.put(PROJECT_ID, projectDetails);
+
+        //Then
+        assertTrue(projectRequestCache.get(PROJECT_ID).isEmpty());
+        assertEquals(0, projectRequestCache.getLoadCount(PROJECT_ID));
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("user1");
+        user.setEmail("user1@example.com");
+        return user;
+    }
+
+    private Project createProject(User user) {
+        Project project = new Project();
+        project.setId(PROJECT_ID);
+        project.setName("project1");
+        project.setDescription("description1");
+        project.setMainUser(user);
+        project.getAdministrators().add(user);
+        project.getUsers().add(user);
+        project.setStartDate(LocalDate.now());
+        project.setEndDate(LocalDate.now().plusDays(10));
+        project.setStatus(Project.Status.INITIATED);
+        return project;
+    }
+
+    private ProjectDetailsResponseDto createProjectDetailsResponseDto(Project project) {
+        ProjectDetailsResponseDto projectDetails = new ProjectDetailsResponseDto();
+        projectDetails.setId(project.getId());
+        projectDetails.setName(project.getName());
+        projectDetails.setDescription(project.getDescription());
+        projectDetails.setMainUser(project.getMainUser().getId());
+        projectDetails.setAdministratorIds(Set.of(project.getMainUser().getId()));
+        projectDetails.setUserIds(Set.of(project.getMainUser().getId()));
+        projectDetails.setStartDate(project.getStartDate());
+        projectDetails.setEndDate(project.getEndDate());
+        projectDetails.setStatus(project.getStatus());
+        return projectDetails;
+    }
+}
@@ -3,16 +3,22 @@ package task.system.service.project;
 import static java.util.Collections.EMPTY_SET;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -23,11 +29,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
 import task.system.dto.project.ProjectDetailsResponseDto;
 import task.system.dto.project.ProjectLowInfoResponse;
+import task.system.dto.project.ProjectMembersRequestDto;
+import task.system.dto.project.ProjectMembersResponseDto;
 import task.system.dto.project.ProjectRequestDto;
 import task.system.dto.project.ProjectUpdateRequestDto;
 import task.system.exception.DataProcessingException;
@@ -55,6 +64,11 @@ class ProjectServiceImplTest {
     private ProjectRepository projectRepository;
     @Mock
     private TaskSystemBot taskSystemBot;
+    @Mock
+    private ProjectRequestCache projectRequestCache;
+    @Spy
+    private ProjectMembershipIndex projectMembershipIndex =
+            new ProjectMembershipIndex(true, 60000, 1000);
 
     @Test
     @DisplayName("Create with valid data, should return ProjectDetailsResponseDto")
@@ -72,31 +86,15 @@ class ProjectServiceImplTest {
         when(projectMapper.toEntity(request)).thenReturn(project);
         when(projectRepository.save(project)).thenReturn(project);
         when(projectMapper.toDto(project)).thenReturn(expected);
-
-        for (long i = 1L; i <= 3L; i++) {
-            Long id = i;
-            when(userService.getById(i)).thenReturn(
-                    admins.stream()
-                            .filter(u -> u.getId().equals(id))
-                            .findFirst().get()
-            );
-        }
-
-        for (long i = 1L; i <= 6L; i++) {
-            Long id = i;
-            when(userService.getById(i)).thenReturn(
-                    users.stream()
-                            .filter(u -> u.getId().equals(id))
-                            .findFirst().get()
-            );
-        }
+        when(userService.getAllByIds(Set.of(1L, 2L, 3L, 4L, 5L, 6L)))
+                .thenReturn(List.copyOf(users));
 
         //Then
         ProjectDetailsResponseDto actual = projectService.create(request);
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
 
         //Verify
-        verify(userService, times(18)).getById(anyLong());
+        verify(userService, times(1)).getAllByIds(any());
         verify(userService, times(1)).getAuthenticatedUser();
         verify(projectMapper, times(1)).toEntity(request);
         verify(projectRepository, times(1)).save(project);
@@ -111,18 +109,10 @@ class ProjectServiceImplTest {
         Set<User> users = createUsers(1, 6);
         Set<User> admins = createUsers(1, 3);
         ProjectRequestDto request = createRequest(users, admins);
-        String expected = "Can't find user by id: " + 6;
+        String expected = "Can't find users by ids: [6]";
 
         //When
-        for (long i = 1L; i <= 5L; i++) {
-            Long id = i;
-            when(userService.getById(id)).thenReturn(
-                    users.stream()
-                            .filter(u -> u.getId().equals(id))
-                            .findFirst().get()
-            );
-        }
-        when(userService.getById(6L)).thenThrow(
+        when(userService.getAllByIds(Set.of(1L, 2L, 3L, 4L, 5L, 6L))).thenThrow(
                 new EntityNotFoundException(expected)
         );
 
@@ -136,7 +126,7 @@ class ProjectServiceImplTest {
         assertEquals(expected, actual);
 
         //Verify
-        verify(userService, times(6)).getById(anyLong());
+        verify(userService, times(1)).getAllByIds(any());
     }
 
     @Test
@@ -171,15 +161,13 @@ class ProjectServiceImplTest {
         User user = createUser(2);
         Project project1 = createProject(1L, user, "project1", "description1");
         Project project2 = createProject(2L, user, "project2", "description2");
-        List<Project> projects = List.of(project1, project2);
         ProjectLowInfoResponse response1 = createProjectLowInfoResponse(project1);
         ProjectLowInfoResponse response2 = createProjectLowInfoResponse(project2);
 
         //When
         when(userService.getAuthenticatedUser()).thenReturn(user);
-        when(projectRepository.findAllProjectsByUserId(user.getId())).thenReturn(projects);
-        when(projectMapper.toLowInfoDto(project1)).thenReturn(response1);
-        when(projectMapper.toLowInfoDto(project2)).thenReturn(response2);
+        when(projectRepository.findAllLowInfoByUserId(user.getId()))
+                .thenReturn(List.of(response1, response2));
 
         //Then
         List<ProjectLowInfoResponse> expected = List.of(response1, response2);
@@ -192,8 +180,7 @@ class ProjectServiceImplTest {
         //Verify
         verify(userService, times(1)).getAuthenticatedUser();
         verify(projectRepository, times(1))
-                .findAllProjectsByUserId(user.getId());
-        verify(projectMapper, times(2)).toLowInfoDto(any(Project.class));
+                .findAllLowInfoByUserId(user.getId());
     }
 
     @Test
@@ -231,8 +218,7 @@ class ProjectServiceImplTest {
 
         //When
         when(userService.getAuthenticatedUser()).thenReturn(user);
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        when(projectMapper.toDto(project)).thenReturn(expected);
+        mockProjectDetails(id, project);
 
         //Then
         ProjectDetailsResponseDto actual = projectService.getById(id);
@@ -240,8 +226,8 @@ class ProjectServiceImplTest {
 
         //Verify
         verify(userService, times(1)).getAuthenticatedUser();
-        verify(projectRepository, times(1)).findById(id);
-        verify(projectMapper, times(1)).toDto(project);
+        verify(projectRepository, times(1)).findHeaderById(id);
+        verify(projectMapper, times(1)).toDto(eq(project), anySet(), anySet());
     }
 
     @Test
@@ -255,7 +241,7 @@ class ProjectServiceImplTest {
         String expected = "Unable to find authenticated user";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        mockProjectDetails(id, project);
         when(userService.getAuthenticatedUser()).thenThrow(new DataProcessingException(expected));
         Exception exception = assertThrows(
                 DataProcessingException.class, () -> projectService.getById(id)
@@ -266,7 +252,7 @@ class ProjectServiceImplTest {
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(1)).getAuthenticatedUser();
     }
 
@@ -282,7 +268,7 @@ class ProjectServiceImplTest {
                 + " is not yours.";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        mockProjectDetails(id, project);
         when(userService.getAuthenticatedUser()).thenReturn(user);
         Exception exception = assertThrows(
                 DataProcessingException.class,
@@ -294,7 +280,7 @@ class ProjectServiceImplTest {
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(1)).getAuthenticatedUser();
     }
 
@@ -306,7 +292,7 @@ class ProjectServiceImplTest {
         String expected = "Can't find project by id: " + id;
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.empty());
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.empty());
         Exception exception = assertThrows(
                 EntityNotFoundException.class,
                 () -> projectService.getById(id)
@@ -317,7 +303,7 @@ class ProjectServiceImplTest {
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
     }
 
     @Test
@@ -327,27 +313,36 @@ class ProjectServiceImplTest {
         Long id = 2L;
         User user = createUser(1);
         Project project = createProject(id, user, "project1", "description1");
+        List<Long> userIds = getUserIds(project.getUsers());
         ProjectUpdateRequestDto request = createProjectUpdateRequest(Set.of(7L));
         createProject(request, project);
         ProjectDetailsResponseDto expected = createProjectDetailsResponseDto(project);
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        when(projectRepository.findUserIdsByProjectId(id))
+                .thenReturn(userIds, getUserIds(project.getUsers()));
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.of(project));
+        when(projectRepository.findAdministratorIdsByProjectId(id))
+                .thenReturn(getUserIds(project.getAdministrators()));
         when(userService.getAuthenticatedUser()).thenReturn(user);
-        when(userService.getById(7L)).thenReturn(createUser(7));
+        when(userService.getAllByIds(Set.of(7L))).thenReturn(List.of(createUser(7)));
         when(projectRepository.update(project)).thenReturn(project);
-        when(projectMapper.toDto(project)).thenReturn(expected);
+        when(projectRepository.addUsers(id, Set.of(7L))).thenReturn(Set.of(7L));
+        when(projectMapper.toDto(project, expected.getUserIds(), expected.getAdministratorIds()))
+                .thenReturn(expected);
 
         //Then
         ProjectDetailsResponseDto actual = projectService.updateById(id, request);
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
 
         //Verify
-        verify(projectRepository, times(2)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
+        verify(projectRepository, never()).findById(id);
         verify(userService, times(2)).getAuthenticatedUser();
-        verify(userService, times(1)).getById(7L);
+        verify(userService, times(1)).getAllByIds(Set.of(7L));
         verify(projectRepository, times(1)).update(project);
-        verify(projectMapper, times(1)).toDto(project);
+        verify(projectRepository, times(1)).addUsers(id, Set.of(7L));
+        verify(taskSystemBot, times(1)).sendMessage(anyString(), eq(Set.of(7L)));
     }
 
     @Test
@@ -359,22 +354,21 @@ class ProjectServiceImplTest {
         Project project = createProject(id, user, "project1", "description1");
         ProjectUpdateRequestDto request = createProjectUpdateRequest(Set.of(7L));
         request.setEndDate(null);
-        String expected = "Date incorrect please entry valid date";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        when(userService.getAuthenticatedUser()).thenReturn(user);
+        mockProjectAccess(id, project, user);
         Exception exception = assertThrows(
                 DataProcessingException.class,
                 () -> projectService.updateById(id, request)
         );
 
         //Then
+        String expected = "Date incorrect please entry valid date";
         String actual = exception.getMessage();
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(2)).getAuthenticatedUser();
     }
 
@@ -393,22 +387,26 @@ class ProjectServiceImplTest {
         Project project = createProject(id, user, "project1", "description1");
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.of(project));
+        when(projectRepository.findUserIdsByProjectId(id))
+                .thenReturn(getUserIds(project.getUsers()));
+        when(projectRepository.findAdministratorIdsByProjectId(id))
+                .thenReturn(getUserIds(project.getAdministrators()));
         when(userService.getAuthenticatedUser()).thenReturn(user);
-        when(userService.getById(7L)).thenReturn(createUser(7));
+        when(userService.getAllByIds(Set.of(7L))).thenReturn(List.of(createUser(7)));
         when(projectRepository.update(any(Project.class))).thenReturn(updatedProject);
-        when(projectMapper.toDto(any(Project.class))).thenReturn(expected);
+        when(projectMapper.toDto(any(Project.class), anySet(), anySet())).thenReturn(expected);
 
         //Then
         ProjectDetailsResponseDto actual = projectService.updateById(id, request);
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
 
         //Verify
-        verify(projectRepository, times(2)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(2)).getAuthenticatedUser();
-        verify(userService, times(1)).getById(7L);
+        verify(userService, times(1)).getAllByIds(Set.of(7L));
         verify(projectRepository, times(1)).update(any(Project.class));
-        verify(projectMapper, times(1)).toDto(any(Project.class));
+        verify(projectMapper, times(1)).toDto(any(Project.class), anySet(), anySet());
     }
 
     @Test
@@ -420,22 +418,21 @@ class ProjectServiceImplTest {
         Project project = createProject(id, user, "project1", "description1");
         ProjectUpdateRequestDto request = createProjectUpdateRequest(Set.of(7L));
         request.setEndDate(LocalDate.parse("2024-01-01", DATE_FORMATTER));
-        String expected = "Date incorrect please entry valid date";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        when(userService.getAuthenticatedUser()).thenReturn(user);
+        mockProjectAccess(id, project, user);
         Exception exception = assertThrows(
                 DataProcessingException.class,
                 () -> projectService.updateById(id, request)
         );
 
         //Then
+        String expected = "Date incorrect please entry valid date";
         String actual = exception.getMessage();
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(2)).getAuthenticatedUser();
     }
 
@@ -450,22 +447,21 @@ class ProjectServiceImplTest {
         ProjectUpdateRequestDto request = createProjectUpdateRequest(Set.of(7L));
         request.setStartDate(null);
         request.setEndDate(LocalDate.parse("2024-01-01", DATE_FORMATTER));
-        String expected = "Date incorrect please entry valid date";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        when(userService.getAuthenticatedUser()).thenReturn(user);
+        mockProjectAccess(id, project, user);
         Exception exception = assertThrows(
                 DataProcessingException.class,
                 () -> projectService.updateById(id, request)
         );
 
         //Then
+        String expected = "Date incorrect please entry valid date";
         String actual = exception.getMessage();
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(2)).getAuthenticatedUser();
     }
 
@@ -478,23 +474,22 @@ class ProjectServiceImplTest {
         User mainUser = createUser(1);
         Project project = createProject(id, mainUser, "project3", "description3");
         ProjectUpdateRequestDto request = createProjectUpdateRequest(Set.of(7L));
-        String expected = "You are not the administrator of this project,"
-                + " you have no rights to update the project";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        when(userService.getAuthenticatedUser()).thenReturn(user);
+        mockProjectAccess(id, project, user);
         Exception exception = assertThrows(
                 DataProcessingException.class,
                 () -> projectService.updateById(id, request)
         );
 
         //Then
+        String expected = "You are not the administrator of this project,"
+                + " you have no rights to update the project";
         String actual = exception.getMessage();
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(2)).getAuthenticatedUser();
     }
 
@@ -507,26 +502,104 @@ class ProjectServiceImplTest {
         User mainUser = createUser(1);
         Project project = createProject(id, mainUser, "project3", "description3");
         ProjectUpdateRequestDto request = createProjectUpdateRequest(Set.of(7L));
-        String expected = "You can only get your projects! " + "The project under this id: " + id
-                + " is not yours.";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        when(userService.getAuthenticatedUser()).thenReturn(user);
+        mockProjectAccess(id, project, user);
         Exception exception = assertThrows(
                 DataProcessingException.class,
                 () -> projectService.updateById(id, request)
         );
 
         //Then
+        String expected = "You can only get your projects! " + "The project under this id: " + id
+                + " is not yours.";
         String actual = exception.getMessage();
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(1)).getAuthenticatedUser();
     }
 
+    @Test
+    @DisplayName("Add members with new and existing ids, should insert only the new ids")
+    void addMembers_WithNewAndExistingIds_ShouldReturnAddedIds() {
+        //Given
+        Long id = 2L;
+        User user = createUser(1);
+        Project project = createProject(id, user, "project1", "description1");
+
+        //When
+        mockProjectAccess(id, project, user);
+        when(userService.getAllByIds(Set.of(2L, 7L, 8L)))
+                .thenReturn(List.of(createUser(2), createUser(7), createUser(8)));
+        when(projectRepository.addUsers(id, Set.of(2L, 7L, 8L))).thenReturn(Set.of(7L, 8L));
+        when(projectRepository.addAdministrators(id, Set.of(8L))).thenReturn(Set.of(8L));
+
+        //Then
+        ProjectMembersResponseDto actual = projectService.addMembers(
+                id, createMembersRequest(Set.of(2L, 7L), Set.of(8L))
+        );
+        assertEquals(Set.of(7L, 8L), actual.getUserIds());
+        assertEquals(Set.of(8L), actual.getAdministratorIds());
+
+        //Verify
+        verify(projectRepository, never()).findById(id);
+        verify(projectRepository, never()).update(any(Project.class));
+        verify(taskSystemBot, times(1)).sendMessage(anyString(), eq(Set.of(7L, 8L)));
+    }
+
+    @Test
+    @DisplayName("Remove members with main user id, should throw an Exception")
+    void removeMembers_WithMainUserId_ShouldThrowException() {
+        //Given
+        Long id = 2L;
+        User user = createUser(1);
+        Project project = createProject(id, user, "project1", "description1");
+        ProjectMembersRequestDto request = createMembersRequest(Set.of(1L, 4L), Set.of());
+
+        //When
+        mockProjectAccess(id, project, user);
+        Exception exception = assertThrows(
+                DataProcessingException.class,
+                () -> projectService.removeMembers(id, request)
+        );
+
+        //Then
+        String expected = "You cannot remove the main user from the project";
+        String actual = exception.getMessage();
+        assertEquals(expected, actual);
+
+        //Verify
+        verify(projectRepository, never()).removeUsers(anyLong(), any());
+        verify(projectRepository, never()).removeAdministrators(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Remove members, should also remove administrator rights of removed users")
+    void removeMembers_WithUserIds_ShouldRemoveAdministratorRights() {
+        //Given
+        Long id = 2L;
+        User user = createUser(1);
+        Project project = createProject(id, user, "project1", "description1");
+
+        //When
+        mockProjectAccess(id, project, user);
+        when(projectRepository.removeAdministrators(id, Set.of(2L, 4L)))
+                .thenReturn(Set.of(2L));
+        when(projectRepository.removeUsers(id, Set.of(2L, 4L))).thenReturn(Set.of(2L, 4L));
+
+        //Then
+        ProjectMembersResponseDto actual = projectService.removeMembers(
+                id, createMembersRequest(Set.of(2L, 4L), Set.of())
+        );
+        assertEquals(Set.of(2L, 4L), actual.getUserIds());
+        assertEquals(Set.of(2L), actual.getAdministratorIds());
+
+        //Verify
+        verify(taskSystemBot, times(1)).sendMessage(anyString(), eq(Set.of(2L, 4L)));
+    }
+
     @Test
     @DisplayName("Delete by valid id with main user authenticated should delete project")
     void deleteById_WithValidDataWithValidUser_ShouldDeleteProject() {
@@ -536,14 +609,14 @@ class ProjectServiceImplTest {
         Project project = createProject(id, user, "project3", "description3");
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        mockProjectDetails(id, project);
         when(userService.getAuthenticatedUser()).thenReturn(user);
 
         //Then
         assertDoesNotThrow(() -> projectService.deleteById(id));
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(2)).getAuthenticatedUser();
     }
 
@@ -558,7 +631,7 @@ class ProjectServiceImplTest {
         String expected = "You cannot delete this project, only the main user can do that";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        mockProjectDetails(id, project);
         when(userService.getAuthenticatedUser()).thenReturn(user);
         Exception exception = assertThrows(
                 DataProcessingException.class,
@@ -570,7 +643,7 @@ class ProjectServiceImplTest {
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(2)).getAuthenticatedUser();
     }
 
@@ -587,7 +660,7 @@ class ProjectServiceImplTest {
                 + " is not yours.";
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        mockProjectDetails(id, project);
         when(userService.getAuthenticatedUser()).thenReturn(user);
         Exception exception = assertThrows(
                 DataProcessingException.class,
@@ -599,7 +672,7 @@ class ProjectServiceImplTest {
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
         verify(userService, times(1)).getAuthenticatedUser();
     }
 
@@ -611,7 +684,7 @@ class ProjectServiceImplTest {
         String expected = "Can't find project by id: " + id;
 
         //When
-        when(projectRepository.findById(id)).thenReturn(Optional.empty());
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.empty());
         Exception exception = assertThrows(
                 EntityNotFoundException.class,
                 () -> projectService.deleteById(id)
@@ -622,7 +695,59 @@ class ProjectServiceImplTest {
         assertEquals(expected, actual);
 
         //Verify
-        verify(projectRepository, times(1)).findById(id);
+        verify(projectRepository, times(1)).findHeaderById(id);
+    }
+
+    @Test
+    @DisplayName("Is administrator called several times, should load membership only once")
+    void isAdministrator_CalledSeveralTimes_ShouldLoadMembershipOnce() {
+        //Given
+        Long id = 5L;
+
+        //When
+        when(projectRepository.findUserIdsByProjectId(id)).thenReturn(List.of(1L, 2L, 3L));
+        when(projectRepository.findAdministratorIdsByProjectId(id)).thenReturn(List.of(1L));
+
+        //Then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(projectService.isAdministrator(id, 1L));
+            assertFalse(projectService.isAdministrator(id, 2L));
+            assertTrue(projectService.isUser(id, 3L));
+            assertFalse(projectService.isUser(id, 4L));
+        }
+
+        //Verify
+        verify(projectRepository, times(1)).findUserIdsByProjectId(id);
+        verify(projectRepository, times(1)).findAdministratorIdsByProjectId(id);
+    }
+
+    @Test
+    @DisplayName("Is user after project update, should use updated membership")
+    void isUser_AfterUpdateById_ShouldUseUpdatedMembership() {
+        //Given
+        Long id = 3L;
+        User user = createUser(1);
+        Project project = createProject(id, user, "project3", "description3");
+        List<Long> userIds = getUserIds(project.getUsers());
+        List<Long> updatedUserIds = new ArrayList<>(userIds);
+        updatedUserIds.add(7L);
+
+        //When
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.of(project));
+        when(projectRepository.findUserIdsByProjectId(id)).thenReturn(userIds, updatedUserIds);
+        when(projectRepository.findAdministratorIdsByProjectId(id))
+                .thenReturn(getUserIds(project.getAdministrators()));
+        when(userService.getAuthenticatedUser()).thenReturn(user);
+        when(userService.getAllByIds(Set.of(7L))).thenReturn(List.of(createUser(7)));
+        when(projectRepository.update(project)).thenReturn(project);
+        when(projectRepository.addUsers(id, Set.of(7L))).thenReturn(Set.of(7L));
+        projectService.updateById(id, createProjectUpdateRequest(Set.of(7L)));
+
+        //Then
+        assertTrue(projectService.isUser(id, 7L));
+
+        //Verify
+        verify(projectRepository, times(2)).findUserIdsByProjectId(id);
     }
 
     private ProjectUpdateRequestDto createProjectUpdateRequest(Set<Long> userIds) {
@@ -636,6 +761,15 @@ class ProjectServiceImplTest {
         return request;
     }
 
+    private ProjectMembersRequestDto createMembersRequest(
+            Set<Long> userIds, Set<Long> administratorIds
+    ) {
+        ProjectMembersRequestDto request = new ProjectMembersRequestDto();
+        request.setUsers(userIds);
+        request.setAdministrators(administratorIds);
+        return request;
+    }
+
     private ProjectRequestDto createRequest(Set<User> usersIds, Set<User> administratorsIds) {
         ProjectRequestDto request = new ProjectRequestDto();
         request.setName("project 3");
@@ -748,6 +882,33 @@ class ProjectServiceImplTest {
         return response;
     }
 
+    private void mockProjectDetails(Long id, Project project) {
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.of(project));
+        mockMembership(id, project);
+        when(projectMapper.toDto(eq(project), anySet(), anySet()))
+                .thenReturn(createProjectDetailsResponseDto(project));
+    }
+
+    private void mockProjectAccess(Long id, Project project, User user) {
+        when(projectRepository.findHeaderById(id)).thenReturn(Optional.of(project));
+        mockMembership(id, project);
+        when(userService.getAuthenticatedUser()).thenReturn(user);
+    }
+
+    private void mockMembership(Long id, Project project) {
+        when(projectRepository.findUserIdsByProjectId(id))
+                .thenReturn(getUserIds(project.getUsers()));
+        when(projectRepository.findAdministratorIdsByProjectId(id))
+                .thenReturn(getUserIds(project.getAdministrators()));
+    }
+
+    private List<Long> getUserIds(Set<User> users) {
+        return users.stream()
+                .map(User::getId)
+                .distinct()
+                .toList();
+    }
+
     private Set<User> createUsers(int startIndex, int endIndex) {
         Set<User> users = new HashSet<>();
 
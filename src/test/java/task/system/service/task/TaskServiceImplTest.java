@@ -1,9 +1,12 @@
 package task.system.service.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,9 +27,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
 import task.system.dto.project.ProjectDetailsResponseDto;
+import task.system.dto.task.TaskBatchCreateRequestDto;
+import task.system.dto.task.TaskBatchDeleteRequestDto;
+import task.system.dto.task.TaskBatchResponseDto;
+import task.system.dto.task.TaskBatchUpdateItemDto;
+import task.system.dto.task.TaskBatchUpdateRequestDto;
 import task.system.dto.task.TaskCreateRequestDto;
+import task.system.dto.task.TaskCursor;
 import task.system.dto.task.TaskFullDetailsDto;
 import task.system.dto.task.TaskLowDetailsDto;
+import task.system.dto.task.TaskPageItem;
+import task.system.dto.task.TaskPageResponseDto;
+import task.system.dto.task.TaskSearchParameters;
 import task.system.dto.task.TaskUpdateRequestDto;
 import task.system.exception.DataProcessingException;
 import task.system.exception.EntityNotFoundException;
@@ -239,25 +251,92 @@ class TaskServiceImplTest {
         );
         ProjectDetailsResponseDto projectDetails = createProjectDetailsResponseDto(project);
         List<Task> tasks = createTasks(projectId, 1, 3);
+        List<TaskPageItem> items = createTaskPageItems(tasks);
+        TaskSearchParameters parameters = new TaskSearchParameters();
 
         //When
         when(projectService.getById(projectId)).thenReturn(projectDetails);
-        when(taskRepository.findAllByProjectId(projectId)).thenReturn(tasks);
+        when(taskRepository.findPageByProjectId(projectId, parameters, null,
+                parameters.getSize() + 1)).thenReturn(items);
 
-        for (Task task : tasks) {
-            when(taskMapper.toLowDetailsDto(task)).thenReturn(createTaskLowDetailsDto(task));
+        for (int i = 0; i < tasks.size(); i++) {
+            when(taskMapper.toLowDetailsDto(items.get(i)))
+                    .thenReturn(createTaskLowDetailsDto(tasks.get(i)));
         }
 
         //Then
         List<TaskLowDetailsDto> expected = createListTaskLowDetailsDto(tasks);
-        List<TaskLowDetailsDto> actual = taskService.getAll(projectId);
-        assertEquals(expected.size(), actual.size());
-        assertEquals(expected.get(1), actual.get(1));
+        TaskPageResponseDto actual = taskService.getAll(projectId, parameters);
+        assertEquals(expected.size(), actual.getTasks().size());
+        assertEquals(expected.get(1), actual.getTasks().get(1));
+        assertNull(actual.getNextCursor());
 
         //Verify
         verify(projectService, times(1)).getById(projectId);
-        verify(taskRepository, times(1)).findAllByProjectId(projectId);
-        verify(taskMapper, times(tasks.size())).toLowDetailsDto(any(Task.class));
+        verify(taskRepository, times(1))
+                .findPageByProjectId(projectId, parameters, null, parameters.getSize() + 1);
+        verify(taskMapper, times(tasks.size())).toLowDetailsDto(any(TaskPageItem.class));
+    }
+
+    @Test
+    @DisplayName("Get all with more tasks than page size, should return next cursor")
+    void getAll_WithMoreTasksThanPageSize_ShouldReturnNextCursor() {
+        //Given
+        Long projectId = 1L;
+        Project project = createProject(
+                projectId, createUser(1L), createUsers(1, 6), createUsers(1, 3)
+        );
+        ProjectDetailsResponseDto projectDetails = createProjectDetailsResponseDto(project);
+        List<Task> tasks = createTasks(projectId, 1, 3);
+        TaskSearchParameters parameters = new TaskSearchParameters();
+        parameters.setSize(2);
+        Task lastTask = tasks.get(1);
+        TaskCursor expectedCursor = new TaskCursor(lastTask.getDueDate(), lastTask.getId());
+
+        //When
+        when(projectService.getById(projectId)).thenReturn(projectDetails);
+        when(taskRepository.findPageByProjectId(projectId, parameters, null, 3))
+                .thenReturn(createTaskPageItems(tasks));
+        when(taskRepository.findPageByProjectId(projectId, parameters, expectedCursor, 3))
+                .thenReturn(List.of());
+        when(taskMapper.toLowDetailsDto(any(TaskPageItem.class)))
+                .thenReturn(new TaskLowDetailsDto());
+        TaskPageResponseDto firstPage = taskService.getAll(projectId, parameters);
+        parameters.setCursor(firstPage.getNextCursor());
+        TaskPageResponseDto secondPage = taskService.getAll(projectId, parameters);
+
+        //Then
+        assertEquals(2, firstPage.getTasks().size());
+        assertTrue(secondPage.getTasks().isEmpty());
+        assertNull(secondPage.getNextCursor());
+
+        //Verify
+        verify(taskRepository, times(1))
+                .findPageByProjectId(projectId, parameters, expectedCursor, 3);
+    }
+
+    @Test
+    @DisplayName("Get all with invalid cursor, should throw an Exception")
+    void getAll_WithInvalidCursor_ShouldThrowException() {
+        //Given
+        Long projectId = 1L;
+        Project project = createProject(
+                projectId, createUser(1L), createUsers(1, 6), createUsers(1, 3)
+        );
+        ProjectDetailsResponseDto projectDetails = createProjectDetailsResponseDto(project);
+        TaskSearchParameters parameters = new TaskSearchParameters();
+        parameters.setCursor("invalid");
+
+        //When
+        when(projectService.getById(projectId)).thenReturn(projectDetails);
+        Exception exception = assertThrows(
+                DataProcessingException.class,
+                () -> taskService.getAll(projectId, parameters)
+        );
+
+        //Then
+        String expected = "Invalid cursor: invalid";
+        assertEquals(expected, exception.getMessage());
     }
 
     @Test
@@ -271,7 +350,7 @@ class TaskServiceImplTest {
         when(projectService.getById(projectId)).thenThrow(new EntityNotFoundException(expected));
         Exception exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> taskService.getAll(projectId)
+                () -> taskService.getAll(projectId, new TaskSearchParameters())
         );
 
         //Then
@@ -347,6 +426,7 @@ class TaskServiceImplTest {
         when(taskMapper.toFullDetailsDto(updatedTask)).thenReturn(expected);
         when(projectService.getById(project.getId())).thenReturn(projectDetails);
         when(userService.getAuthenticatedUser()).thenReturn(user);
+        when(projectService.isAdministrator(project.getId(), user.getId())).thenReturn(true);
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
         when(userService.existsById(assigneeId)).thenReturn(true);
         when(taskRepository.update(any(Task.class))).thenReturn(updatedTask);
@@ -357,8 +437,9 @@ class TaskServiceImplTest {
 
         //Verify
         verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(5)).getById(project.getId());
+        verify(projectService, times(4)).getById(project.getId());
         verify(userService, times(1)).getAuthenticatedUser();
+        verify(projectService, times(1)).isAdministrator(project.getId(), user.getId());
         verify(userService, times(1)).existsById(assigneeId);
         verify(taskRepository, times(1)).update(any(Task.class));
         verify(taskMapper, times(1)).toFullDetailsDto(updatedTask);
@@ -416,8 +497,10 @@ class TaskServiceImplTest {
 
         //Verify
         verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(2)).getById(project.getId());
+        verify(projectService, times(1)).getById(project.getId());
         verify(userService, times(1)).getAuthenticatedUser();
+        verify(projectService, times(1))
+                .isAdministrator(project.getId(), authenticatedUser.getId());
     }
 
     @Test
@@ -435,6 +518,8 @@ class TaskServiceImplTest {
         when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
         when(projectService.getById(project.getId())).thenReturn(projectDetails);
         when(userService.getAuthenticatedUser()).thenReturn(authenticatedUser);
+        when(projectService.isAdministrator(project.getId(), authenticatedUser.getId()))
+                .thenReturn(true);
         when(userService.existsById(assigneeId)).thenReturn(false);
 
         Exception exception = assertThrows(
@@ -449,7 +534,7 @@ class TaskServiceImplTest {
 
         //Verify
         verify(taskRepository, times(1)).findById(task.getId());
-        verify(projectService, times(4)).getById(project.getId());
+        verify(projectService, times(3)).getById(project.getId());
         verify(userService, times(1)).getAuthenticatedUser();
         verify(userService, times(1)).existsById(assigneeId);
     }
@@ -469,6 +554,8 @@ class TaskServiceImplTest {
         when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
         when(projectService.getById(project.getId())).thenReturn(projectDetails);
         when(userService.getAuthenticatedUser()).thenReturn(authenticatedUser);
+        when(projectService.isAdministrator(project.getId(), authenticatedUser.getId()))
+                .thenReturn(true);
         when(userService.existsById(assigneeId)).thenReturn(true);
 
         Exception exception = assertThrows(
@@ -486,7 +573,7 @@ class TaskServiceImplTest {
 
         //Verify
         verify(taskRepository, times(1)).findById(task.getId());
-        verify(projectService, times(4)).getById(project.getId());
+        verify(projectService, times(3)).getById(project.getId());
         verify(userService, times(1)).getAuthenticatedUser();
         verify(userService, times(1)).existsById(assigneeId);
     }
@@ -506,6 +593,8 @@ class TaskServiceImplTest {
         when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
         when(projectService.getById(project.getId())).thenReturn(projectDetails);
         when(userService.getAuthenticatedUser()).thenReturn(authenticatedUser);
+        when(projectService.isAdministrator(project.getId(), authenticatedUser.getId()))
+                .thenReturn(true);
 
         Exception exception = assertThrows(
                 DataProcessingException.class,
@@ -522,7 +611,7 @@ class TaskServiceImplTest {
 
         //Verify
         verify(taskRepository, times(1)).findById(task.getId());
-        verify(projectService, times(3)).getById(project.getId());
+        verify(projectService, times(2)).getById(project.getId());
         verify(userService, times(1)).getAuthenticatedUser();
     }
 
@@ -540,13 +629,15 @@ class TaskServiceImplTest {
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
         when(projectService.getById(project.getId())).thenReturn(projectDetails);
         when(userService.getAuthenticatedUser()).thenReturn(authenticatedUser);
+        when(projectService.isAdministrator(project.getId(), authenticatedUser.getId()))
+                .thenReturn(true);
 
         //Then
         taskService.deleteById(taskId);
 
         //Verify
         verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(2)).getById(project.getId());
+        verify(projectService, times(1)).getById(project.getId());
         verify(userService, times(1)).getAuthenticatedUser();
         verify(taskRepository, times(1)).deleteById(taskId);
     }
@@ -601,8 +692,167 @@ class TaskServiceImplTest {
 
         //Verify
         verify(taskRepository, times(1)).findById(taskId);
-        verify(projectService, times(2)).getById(project.getId());
+        verify(projectService, times(1)).getById(project.getId());
+        verify(userService, times(1)).getAuthenticatedUser();
+    }
+
+    @Test
+    @DisplayName("Create batch of tasks, should validate each project once "
+            + "and send one message per assignee")
+    void createAll_WithValidRequestData_ShouldSendOneMessagePerAssignee() {
+        //Given
+        Project project = createProject(1L, createUser(1L), createUsers(1, 6), createUsers(1, 3));
+        ProjectDetailsResponseDto projectDetails = createProjectDetailsResponseDto(project);
+        List<TaskCreateRequestDto> requests = List.of(
+                createRequest(1, project.getId(), 4L),
+                createRequest(2, project.getId(), 4L),
+                createRequest(3, project.getId(), 5L)
+        );
+        TaskBatchCreateRequestDto request = new TaskBatchCreateRequestDto();
+        request.setTasks(requests);
+        List<Task> tasks = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            tasks.add(createTask((long) i + 1, requests.get(i)));
+        }
+
+        //When
+        when(projectService.getById(project.getId())).thenReturn(projectDetails);
+
+        for (int i = 0; i < requests.size(); i++) {
+            when(taskMapper.toEntity(requests.get(i))).thenReturn(tasks.get(i));
+        }
+
+        when(taskRepository.saveAll(tasks)).thenReturn(3);
+
+        //Then
+        TaskBatchResponseDto actual = taskService.createAll(request);
+        assertEquals(3, actual.getRowCount());
+        assertEquals(List.of(1L, 2L, 3L), actual.getTaskIds());
+
+        //Verify
+        verify(projectService, times(1)).getById(project.getId());
+        verify(taskRepository, times(1)).saveAll(tasks);
+        verify(taskSystemBot, times(1)).sendMessage(any(), eq(4L));
+        verify(taskSystemBot, times(1)).sendMessage(any(), eq(5L));
+        verify(userService, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Update batch of tasks with non existent id, should throw an Exception")
+    void updateAll_WithNonExistentTaskId_ShouldThrowException() {
+        //Given
+        TaskBatchUpdateItemDto firstItem = new TaskBatchUpdateItemDto();
+        firstItem.setId(1L);
+        TaskBatchUpdateItemDto secondItem = new TaskBatchUpdateItemDto();
+        secondItem.setId(2L);
+        TaskBatchUpdateRequestDto request = new TaskBatchUpdateRequestDto();
+        request.setTasks(List.of(firstItem, secondItem));
+        Task task = createTask(1L, 1L, 4L);
+
+        //When
+        when(taskRepository.findAllByIds(Set.of(1L, 2L))).thenReturn(List.of(task));
+        Exception exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> taskService.updateAll(request)
+        );
+
+        //Then
+        String expected = "Can't find tasks by ids: [2]";
+        String actual = exception.getMessage();
+        assertEquals(expected, actual);
+
+        //Verify
+        verify(taskRepository, never()).updateAll(any());
+    }
+
+    @Test
+    @DisplayName("Update batch of tasks with duplicate ids, should throw an Exception")
+    void updateAll_WithDuplicateTaskIds_ShouldThrowException() {
+        //Given
+        TaskBatchUpdateItemDto firstItem = new TaskBatchUpdateItemDto();
+        firstItem.setId(1L);
+        TaskBatchUpdateItemDto secondItem = new TaskBatchUpdateItemDto();
+        secondItem.setId(2L);
+        TaskBatchUpdateItemDto duplicateItem = new TaskBatchUpdateItemDto();
+        duplicateItem.setId(1L);
+        TaskBatchUpdateRequestDto request = new TaskBatchUpdateRequestDto();
+        request.setTasks(List.of(firstItem, secondItem, duplicateItem));
+
+        //When
+        Exception exception = assertThrows(
+                DataProcessingException.class,
+                () -> taskService.updateAll(request)
+        );
+
+        //Then
+        String expected = "Each task can be updated only once per batch, duplicate ids: [1]";
+        String actual = exception.getMessage();
+        assertEquals(expected, actual);
+
+        //Verify
+        verify(taskRepository, never()).findAllByIds(any());
+        verify(taskRepository, never()).updateAll(any());
+    }
+
+    @Test
+    @DisplayName("Update batch of tasks, should return row count reported by the repository")
+    void updateAll_WithConcurrentlyDeletedTask_ShouldReturnUpdatedRowCount() {
+        //Given
+        TaskBatchUpdateItemDto firstItem = new TaskBatchUpdateItemDto();
+        firstItem.setId(1L);
+        firstItem.setName("updated task name");
+        TaskBatchUpdateItemDto secondItem = new TaskBatchUpdateItemDto();
+        secondItem.setId(2L);
+        secondItem.setName("updated task name");
+        TaskBatchUpdateRequestDto request = new TaskBatchUpdateRequestDto();
+        request.setTasks(List.of(firstItem, secondItem));
+        Project project = createProject(1L, createUser(1L), createUsers(1, 6), createUsers(1, 3));
+        List<Task> tasks = createTasks(project.getId(), 1, 2);
+
+        //When
+        when(taskRepository.findAllByIds(Set.of(1L, 2L))).thenReturn(tasks);
+        when(userService.getAuthenticatedUser()).thenReturn(createUser(1L));
+        when(projectService.isAdministrator(project.getId(), 1L)).thenReturn(true);
+        when(projectService.getById(project.getId()))
+                .thenReturn(createProjectDetailsResponseDto(project));
+        when(taskRepository.updateAll(tasks)).thenReturn(1);
+
+        //Then
+        TaskBatchResponseDto actual = taskService.updateAll(request);
+        assertEquals(1, actual.getRowCount());
+        assertEquals(List.of(1L, 2L), actual.getTaskIds());
+        assertEquals("updated task name", tasks.get(1).getName());
+
+        //Verify
+        verify(taskRepository, times(1)).updateAll(tasks);
+    }
+
+    @Test
+    @DisplayName("Delete batch of tasks by administrator, should return deleted row count")
+    void deleteAll_ByAdministrator_ShouldReturnDeletedRowCount() {
+        //Given
+        Project project = createProject(1L, createUser(1L), createUsers(1, 6), createUsers(1, 3));
+        List<Task> tasks = createTasks(project.getId(), 1, 3);
+        Set<Long> ids = Set.of(1L, 2L, 3L);
+        TaskBatchDeleteRequestDto request = new TaskBatchDeleteRequestDto();
+        request.setIds(ids);
+
+        //When
+        when(taskRepository.findAllByIds(ids)).thenReturn(tasks);
+        when(userService.getAuthenticatedUser()).thenReturn(createUser(1L));
+        when(projectService.isAdministrator(project.getId(), 1L)).thenReturn(true);
+        when(taskRepository.deleteAllByIds(ids)).thenReturn(3);
+
+        //Then
+        TaskBatchResponseDto actual = taskService.deleteAll(request);
+        assertEquals(3, actual.getRowCount());
+
+        //Verify
+        verify(projectService, times(1)).isAdministrator(project.getId(), 1L);
+        verify(projectService, never()).getById(any());
         verify(userService, times(1)).getAuthenticatedUser();
+        verify(taskRepository, times(1)).deleteAllByIds(ids);
     }
 
     private TaskUpdateRequestDto createTaskUpdateRequest(Long assigneeId) {
@@ -638,6 +888,14 @@ class TaskServiceImplTest {
         return tasks;
     }
 
+    private List<TaskPageItem> createTaskPageItems(List<Task> tasks) {
+        return tasks.stream()
+                .map(task -> new TaskPageItem(
+                        task.getId(), task.getName(), task.getDescription(), task.getDueDate()
+                ))
+                .collect(Collectors.toList());
+    }
+
     private TaskLowDetailsDto createTaskLowDetailsDto(Task task) {
         TaskLowDetailsDto taskLowDetailsDto = new TaskLowDetailsDto();
         taskLowDetailsDto.setId(task.getId());
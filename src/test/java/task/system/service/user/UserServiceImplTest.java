@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
@@ -32,6 +33,8 @@ import task.system.model.Role;
 import task.system.model.User;
 import task.system.repository.role.RoleRepository;
 import task.system.repository.user.UserRepository;
+import task.system.security.PrincipalCache;
+import task.system.security.UserPrincipal;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceImplTest {
@@ -45,6 +48,8 @@ class UserServiceImplTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private RoleRepository roleRepository;
+    @Mock
+    private PrincipalCache principalCache;
 
     @Test
     @DisplayName("Register user by non exists email with valid data, should return UserResponseDto")
@@ -287,25 +292,81 @@ class UserServiceImplTest {
         //Given
         Authentication authentication = Mockito.mock(Authentication.class);
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        UserUpdateProfileRequest updateRequest = createUpdateRequest();
         User user = createUser();
+        User userFromDb = createUser();
         when(authentication.getName()).thenReturn(user.getUsername());
         when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(userFromDb));
 
-        user.setEmail(updateRequest.getEmail());
-        user.setUsername(updateRequest.getUsername());
-        user.setFirstName(updateRequest.getFirstName());
-        user.setPassword(passwordEncoder.encode(updateRequest.getPassword()));
-        UserResponseDto expected = createUserResponse(user);
+        UserUpdateProfileRequest updateRequest = createUpdateRequest();
+        User updatedUser = createUser();
+        updatedUser.setEmail(updateRequest.getEmail());
+        updatedUser.setUsername(updateRequest.getUsername());
+        updatedUser.setFirstName(updateRequest.getFirstName());
+        UserResponseDto expected = createUserResponse(updatedUser);
 
         //When
-        when(userMapper.toDto(user)).thenReturn(expected);
+        when(userMapper.toDto(userFromDb)).thenReturn(expected);
 
         //Then
         UserResponseDto actual = userService.updateProfile(updateRequest);
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
+        assertEquals(updateRequest.getEmail(), userFromDb.getEmail());
         verify(authentication, times(1)).getName();
-        verify(userMapper, times(1)).toDto(user);
+        verify(userRepository, times(1)).updateUser(userFromDb);
+        verify(userMapper, times(1)).toDto(userFromDb);
+        verify(principalCache, times(1)).evictAfterCompletion(user.getId());
+    }
+
+    @Test
+    @DisplayName("Update profile with failing update, should keep cached principal unchanged")
+    void updateProfile_WithFailingUpdate_ShouldKeepCachedPrincipalUnchanged() {
+        //Given
+        UserPrincipal cachedPrincipal = UserPrincipal.of(createUser());
+        Authentication authentication = Mockito.mock(Authentication.class);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        UserUpdateProfileRequest updateRequest = createUpdateRequest();
+        User userFromDb = createUser();
+        String expected = "Can't update user by email: " + updateRequest.getEmail();
+
+        //When
+        when(authentication.getPrincipal()).thenReturn(cachedPrincipal);
+        when(userRepository.findById(cachedPrincipal.id())).thenReturn(Optional.of(userFromDb));
+        Mockito.doThrow(new DataProcessingException(expected))
+                .when(userRepository).updateUser(userFromDb);
+        Exception exception = assertThrows(
+                DataProcessingException.class,
+                () -> userService.updateProfile(updateRequest)
+        );
+
+        //Then
+        assertEquals(expected, exception.getMessage());
+        assertEquals("user1@example.com", cachedPrincipal.email());
+        assertEquals("user1", cachedPrincipal.username());
+        assertEquals("user1", cachedPrincipal.firstName());
+
+        //Verify
+        verify(principalCache, times(1)).evictAfterCompletion(cachedPrincipal.id());
+    }
+
+    @Test
+    @DisplayName("Get authenticated user with cached principal, should return a fresh copy")
+    void getAuthenticatedUser_WithCachedPrincipal_ShouldReturnFreshCopy() {
+        //Given
+        UserPrincipal cachedPrincipal = UserPrincipal.of(createUser());
+        Authentication authentication = Mockito.mock(Authentication.class);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        //When
+        when(authentication.getPrincipal()).thenReturn(cachedPrincipal);
+        User first = userService.getAuthenticatedUser();
+        first.setEmail("changed@example.com");
+        User second = userService.getAuthenticatedUser();
+
+        //Then
+        assertEquals(cachedPrincipal.id(), second.getId());
+        assertEquals("user1@example.com", second.getEmail());
+        assertEquals("user1@example.com", cachedPrincipal.email());
     }
 
     @Test
@@ -324,6 +385,43 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).findById(id);
     }
 
+    @Test
+    @DisplayName("Get all by ids with valid ids should return users")
+    void getAllByIds_WithValidIds_ShouldReturnUsers() {
+        //Given
+        User expected = createUser();
+        Set<Long> ids = Set.of(expected.getId());
+
+        //When
+        when(userRepository.findAllByIds(ids)).thenReturn(List.of(expected));
+
+        //Then
+        List<User> actual = userService.getAllByIds(ids);
+        assertEquals(List.of(expected), actual);
+        verify(userRepository, times(1)).findAllByIds(ids);
+    }
+
+    @Test
+    @DisplayName("Get all by ids with invalid ids should report all of them in one exception")
+    void getAllByIds_WithInvalidIds_ShouldReturnException() {
+        //Given
+        User user = createUser();
+        List<Long> ids = List.of(user.getId(), 998L, 999L);
+
+        //When
+        when(userRepository.findAllByIds(ids)).thenReturn(List.of(user));
+        Exception exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> userService.getAllByIds(ids)
+        );
+
+        //Then
+        String expected = "Can't find users by ids: [998, 999]";
+        String actual = exception.getMessage();
+        assertEquals(expected, actual);
+        verify(userRepository, times(1)).findAllByIds(ids);
+    }
+
     @Test
     @DisplayName("Get by id with invalid id should return exception")
     void getById_WithInvalidId_ShouldReturnException() {
@@ -0,0 +1,134 @@
+package task.system.telegram;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import task.system.repository.user.UserRepository;
+import task.system.telegram.model.TelegramOutboxMessage;
+import task.system.telegram.repository.TelegramOutboxRepository;
+import task.system.telegram.service.TaskSystemBotService;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSystemBotTest {
+    @Mock
+    private TaskSystemBotService botService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TelegramNotificationDispatcher notificationDispatcher;
+    @Mock
+    private TelegramOutboxRepository outboxRepository;
+
+    private TaskSystemBot taskSystemBot;
+
+    @BeforeEach
+    void setUp() {
+        taskSystemBot = new TaskSystemBot(
+                botService, userRepository, notificationDispatcher, outboxRepository
+        );
+        ReflectionTestUtils.setField(taskSystemBot, "batchSize", 100);
+        ReflectionTestUtils.setField(taskSystemBot, "lease", 600_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Send message in a transaction, should store it and relay only after commit")
+    void sendMessage_InCommittedTransaction_ShouldRelayAfterCommit() {
+        //Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //When
+        taskSystemBot.sendMessage("text", List.of(1L, 2L));
+
+        //Then
+        verify(notificationDispatcher, never()).submit(any());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        //Verify
+        verify(outboxRepository, times(1)).saveAll(any());
+        verify(notificationDispatcher, times(1)).submit(any());
+    }
+
+    @Test
+    @DisplayName("Send message in a rolled back transaction, should not relay it")
+    void sendMessage_InRolledBackTransaction_ShouldNotRelay() {
+        //Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //When
+        taskSystemBot.sendMessage("text", List.of(1L, 2L));
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        //Verify
+        verify(notificationDispatcher, never()).submit(any());
+    }
+
+    @Test
+    @DisplayName("Relay due messages, should delete sent messages and messages without a chat")
+    void relay_WithDueMessages_ShouldDeleteCompletedMessages() {
+        //Given
+        TelegramOutboxMessage linked = createMessage(1L, 10L);
+        TelegramOutboxMessage unlinked = createMessage(2L, 20L);
+
+        //When
+        when(notificationDispatcher.getRemainingCapacity()).thenReturn(1000);
+        when(outboxRepository.claimDue(any(), any(), eq(100)))
+                .thenReturn(List.of(linked, unlinked))
+                .thenReturn(List.of());
+        when(botService.findChatIdsByUserIds(List.of(10L, 20L))).thenReturn(Map.of(10L, 100L));
+        taskSystemBot.relay();
+        ArgumentCaptor<Runnable> onCompletion = ArgumentCaptor.forClass(Runnable.class);
+        verify(notificationDispatcher).dispatch(eq(100L), any(), onCompletion.capture());
+        onCompletion.getValue().run();
+        taskSystemBot.relay();
+
+        //Then
+        ArgumentCaptor<List<Long>> deletedIds = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).deleteAllByIds(deletedIds.capture());
+        assertEquals(List.of(2L, 1L), deletedIds.getValue());
+    }
+
+    @Test
+    @DisplayName("Relay with full dispatcher queue, should not claim messages")
+    void relay_WithFullQueue_ShouldNotClaimMessages() {
+        //When
+        when(notificationDispatcher.getRemainingCapacity()).thenReturn(0);
+        taskSystemBot.relay();
+
+        //Verify
+        verify(outboxRepository, never()).claimDue(any(), any(), anyInt());
+    }
+
+    private TelegramOutboxMessage createMessage(Long id, Long userId) {
+        TelegramOutboxMessage message = TelegramOutboxMessage.of(userId, "text");
+        message.setId(id);
+        return message;
+    }
+}
@@ -0,0 +1,155 @@
+package task.system.telegram;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.ResponseParameters;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+import task.system.config.ExecutorThreadFactory;
+
+class TelegramNotificationDispatcherTest {
+    private MeterRegistry meterRegistry;
+    private TelegramNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new TelegramNotificationDispatcher(
+                meterRegistry, ExecutorThreadFactory.platform(), 2, 100, 3, 10, 10, 1
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Dispatch with failing send, should retry until success")
+    void dispatch_WithFailingSend_ShouldRetryUntilSuccess() throws InterruptedException {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        //When
+        dispatcher.dispatch(1L, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new TelegramApiException("Too Many Requests");
+            }
+        }, delivered::countDown);
+
+        //Then
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        assertEquals(2, meterRegistry.get("telegram.notifications.send")
+                .tag("result", "failure").timer().count());
+        assertEquals(1, meterRegistry.get("telegram.notifications.send")
+                .tag("result", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Dispatch with always failing send, should stop after max attempts")
+    void dispatch_WithAlwaysFailingSend_ShouldStopAfterMaxAttempts() throws InterruptedException {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        //When
+        dispatcher.dispatch(1L, () -> {
+            attempts.incrementAndGet();
+            throw new TelegramApiException("Bad Request");
+        }, completed::countDown);
+
+        //Then
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Dispatch with permanent request error, should not retry")
+    void dispatch_WithForbiddenError_ShouldNotRetry() throws InterruptedException {
+        //Given
+        TelegramApiRequestException forbidden = spy(new TelegramApiRequestException("Forbidden"));
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        //When
+        when(forbidden.getErrorCode()).thenReturn(403);
+        dispatcher.dispatch(1L, () -> {
+            attempts.incrementAndGet();
+            throw forbidden;
+        }, completed::countDown);
+
+        //Then
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Dispatch with too many requests error, should retry after retry_after")
+    void dispatch_WithTooManyRequestsError_ShouldHonourRetryAfter() throws InterruptedException {
+        //Given
+        ResponseParameters parameters = mock(ResponseParameters.class);
+        TelegramApiRequestException tooManyRequests = spy(
+                new TelegramApiRequestException("Too Many Requests")
+        );
+
+        //When
+        when(parameters.getRetryAfter()).thenReturn(1);
+        when(tooManyRequests.getErrorCode()).thenReturn(429);
+        when(tooManyRequests.getParameters()).thenReturn(parameters);
+        long[] attemptTimes = new long[2];
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        dispatcher.dispatch(1L, () -> {
+            int attempt = attempts.getAndIncrement();
+            attemptTimes[attempt] = System.currentTimeMillis();
+
+            if (attempt == 0) {
+                throw tooManyRequests;
+            }
+        }, delivered::countDown);
+
+        //Then
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+        assertTrue(attemptTimes[1] - attemptTimes[0] >= 1000);
+    }
+
+    @Test
+    @DisplayName("Submit task, should not run it on the calling thread")
+    void submit_Task_ShouldRunOnWorkerThread() throws InterruptedException {
+        //Given
+        Thread caller = Thread.currentThread();
+        CountDownLatch executed = new CountDownLatch(1);
+        AtomicInteger sameThread = new AtomicInteger();
+
+        //When
+        dispatcher.submit(() -> {
+            if (Thread.currentThread() == caller) {
+                sameThread.incrementAndGet();
+            }
+
+            executed.countDown();
+        });
+
+        //Then
+        assertTrue(executed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, sameThread.get());
+    }
+}
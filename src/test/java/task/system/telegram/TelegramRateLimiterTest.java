@@ -0,0 +1,133 @@
+package task.system.telegram;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TelegramRateLimiterTest {
+    private static final long PER_CHAT_INTERVAL = 1000;
+    private static final long GLOBAL_INTERVAL = 10;
+
+    private AtomicLong clock;
+    private TelegramRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(100_000);
+        rateLimiter = new TelegramRateLimiter(PER_CHAT_INTERVAL, GLOBAL_INTERVAL, clock::get);
+    }
+
+    @Test
+    @DisplayName("Reserve for a chat with a backlog, should not delay other chats")
+    void reserve_WithBackloggedChat_ShouldNotDelayOtherChats() {
+        //Given
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.reserve(1L, 0);
+        }
+
+        //When
+        long delay = rateLimiter.reserve(2L, 0);
+
+        //Then
+        assertEquals(GLOBAL_INTERVAL, delay);
+    }
+
+    @Test
+    @DisplayName("Reserve for many chats next to a backlogged chat, should keep the global "
+            + "interval between all sends")
+    void reserve_ManyChatsAndBackloggedChat_ShouldKeepGlobalInterval() {
+        //Given
+        List<Long> sendTimes = new ArrayList<>();
+        sendTimes.add(rateLimiter.reserve(1L, 0));
+        sendTimes.add(rateLimiter.reserve(1L, 0));
+
+        //When
+        for (long chatId = 2; chatId <= 200; chatId++) {
+            sendTimes.add(rateLimiter.reserve(chatId, 0));
+        }
+
+        //Then
+        Collections.sort(sendTimes);
+
+        for (int i = 1; i < sendTimes.size(); i++) {
+            assertTrue(sendTimes.get(i) - sendTimes.get(i - 1) >= GLOBAL_INTERVAL,
+                    "Sends at " + sendTimes.get(i - 1) + " and " + sendTimes.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Reserve from several threads, should keep the global interval between all "
+            + "sends")
+    void reserve_Concurrently_ShouldKeepGlobalInterval() throws InterruptedException {
+        //Given
+        List<Long> sendTimes = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //When
+        for (long chatId = 1; chatId <= 1000; chatId++) {
+            long chat = chatId % 50;
+            executor.execute(() -> sendTimes.add(rateLimiter.reserve(chat, 0)));
+        }
+
+        executor.shutdown();
+
+        //Then
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        List<Long> sorted = new ArrayList<>(sendTimes);
+        Collections.sort(sorted);
+
+        for (int i = 1; i < sorted.size(); i++) {
+            assertTrue(sorted.get(i) - sorted.get(i - 1) >= GLOBAL_INTERVAL,
+                    "Sends at " + sorted.get(i - 1) + " and " + sorted.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Reserve several times for one chat, should space sends by the chat interval")
+    void reserve_SameChat_ShouldSpaceByChatInterval() {
+        //When
+        long first = rateLimiter.reserve(1L, 0);
+        long second = rateLimiter.reserve(1L, 0);
+
+        //Then
+        assertEquals(0, first);
+        assertEquals(PER_CHAT_INTERVAL, second);
+    }
+
+    @Test
+    @DisplayName("Reserve with minimum delay, should not send before it")
+    void reserve_WithMinDelay_ShouldNotSendBeforeIt() {
+        //When
+        rateLimiter.reserve(1L, 0);
+        long retry = rateLimiter.reserve(1L, 5000);
+
+        //Then
+        assertEquals(5000, retry);
+    }
+
+    @Test
+    @DisplayName("Reserve after chats went idle, should evict their slots")
+    void reserve_AfterChatsWentIdle_ShouldEvictIdleChats() {
+        //Given
+        for (long chatId = 1; chatId <= 100; chatId++) {
+            rateLimiter.reserve(chatId, 0);
+        }
+
+        //When
+        clock.addAndGet(120_000);
+        rateLimiter.reserve(1000L, 0);
+
+        //Then
+        assertEquals(1, rateLimiter.getTrackedChats());
+    }
+}
@@ -0,0 +1,153 @@
+package task.system.telegram.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import task.system.telegram.model.TaskSystemBotChat;
+import task.system.telegram.repository.TaskSystemBotRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSystemBotServiceImplTest {
+    @InjectMocks
+    private TaskSystemBotServiceImpl botService;
+    @Mock
+    private TaskSystemBotRepository botRepository;
+
+    @ParameterizedTest(name = "project with {0} users")
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("Find chat ids for growing project, should run one query at most")
+    void findChatIdsByUserIds_ForGrowingProject_ShouldRunOneQueryAtMost(int projectSize) {
+        //Given
+        List<Long> userIds = createUserIds(projectSize);
+        List<TaskSystemBotChat> botChats = userIds.stream()
+                .filter(userId -> userId % 2 == 0)
+                .map(userId -> createBotChat(userId + 1000, userId))
+                .toList();
+
+        //When
+        when(botRepository.findAllByUserIds(userIds)).thenReturn(botChats);
+
+        //Then
+        Map<Long, Long> actual = botService.findChatIdsByUserIds(userIds);
+        assertEquals(botChats.size(), actual.size());
+
+        //Verify
+        verify(botRepository, times(1)).findAllByUserIds(anyCollection());
+        verify(botRepository, never()).findByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Find chat ids after warm up, should not query repository")
+    void findChatIdsByUserIds_AfterWarmUp_ShouldNotQueryRepository() {
+        //Given
+        List<Long> userIds = createUserIds(500);
+        List<TaskSystemBotChat> botChats = userIds.stream()
+                .map(userId -> createBotChat(userId + 1000, userId))
+                .toList();
+
+        //When
+        when(botRepository.findAll()).thenReturn(botChats);
+        botService.warmUpChatIds();
+
+        //Then
+        Map<Long, Long> actual = botService.findChatIdsByUserIds(userIds);
+        Map<Long, Long> expected = botChats.stream()
+                .collect(Collectors.toMap(
+                        TaskSystemBotChat::getUserId, TaskSystemBotChat::getChatId
+                ));
+        assertEquals(expected, actual);
+
+        //Verify
+        verify(botRepository, times(1)).findAll();
+        verify(botRepository, never()).findAllByUserIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Save chat id, should make chat id available without query")
+    void saveChatId_NewChat_ShouldBeResolvedWithoutQuery() {
+        //Given
+        Long chatId = 2000L;
+        Long userId = 1L;
+
+        //When
+        when(botRepository.findByChatId(chatId)).thenReturn(Optional.empty());
+        botService.saveChatId(chatId, userId);
+
+        //Then
+        Map<Long, Long> actual = botService.findChatIdsByUserIds(List.of(userId));
+        assertEquals(Map.of(userId, chatId), actual);
+
+        //Verify
+        verify(botRepository, never()).findAllByUserIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Find chat ids for users without chat twice, should query repository once")
+    void findChatIdsByUserIds_WithoutChat_ShouldQueryRepositoryOnce() {
+        //Given
+        List<Long> userIds = createUserIds(10);
+
+        //When
+        when(botRepository.findAllByUserIds(userIds)).thenReturn(List.of());
+        botService.findChatIdsByUserIds(userIds);
+
+        //Then
+        Map<Long, Long> actual = botService.findChatIdsByUserIds(userIds);
+        assertEquals(Map.of(), actual);
+
+        //Verify
+        verify(botRepository, times(1)).findAllByUserIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Save chat id for user cached without chat, should resolve the new chat id")
+    void saveChatId_ForUserCachedWithoutChat_ShouldResolveNewChatId() {
+        //Given
+        Long chatId = 2000L;
+        Long userId = 1L;
+
+        //When
+        when(botRepository.findAllByUserIds(List.of(userId))).thenReturn(List.of());
+        when(botRepository.findByChatId(chatId)).thenReturn(Optional.empty());
+        botService.findChatIdsByUserIds(List.of(userId));
+        botService.saveChatId(chatId, userId);
+
+        //Then
+        Map<Long, Long> actual = botService.findChatIdsByUserIds(List.of(userId));
+        assertEquals(Map.of(userId, chatId), actual);
+
+        //Verify
+        verify(botRepository, times(1)).findAllByUserIds(anyCollection());
+    }
+
+    private List<Long> createUserIds(int count) {
+        return LongStream.rangeClosed(1, count)
+                .boxed()
+                .toList();
+    }
+
+    private TaskSystemBotChat createBotChat(Long chatId, Long userId) {
+        TaskSystemBotChat botChat = new TaskSystemBotChat();
+        botChat.setChatId(chatId);
+        botChat.setUserId(userId);
+        return botChat;
+    }
+}
@@ -0,0 +1 @@
+ALTER SEQUENCE users_id_seq RESTART WITH 11;
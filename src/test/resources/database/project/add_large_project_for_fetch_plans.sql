@@ -0,0 +1,21 @@
+INSERT INTO users (id, username, email, password, first_name, last_name, is_deleted)
+SELECT g, 'fetch_plan_user' || g, 'fetch_plan_user' || g || '@example.com', 'password',
+       'First', 'Last', false
+FROM generate_series(300000, 301999) AS g;
+
+INSERT INTO users_roles (user_id, role_id)
+SELECT g, 1
+FROM generate_series(300000, 301999) AS g;
+
+INSERT INTO projects
+(id, name, description, main_user_id, start_date, end_date, status, is_deleted)
+VALUES (300000, 'fetch_plan_project', 'description', 300000, '2025-06-06', '2025-07-07',
+        'INITIATED', false);
+
+INSERT INTO projects_users (project_id, user_id)
+SELECT 300000, g
+FROM generate_series(300000, 301999) AS g;
+
+INSERT INTO projects_administrators (project_id, user_id)
+SELECT 300000, g
+FROM generate_series(300000, 300049) AS g;
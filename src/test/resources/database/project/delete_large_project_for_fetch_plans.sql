@@ -0,0 +1,5 @@
+DELETE FROM projects_administrators WHERE project_id = 300000;
+DELETE FROM projects_users WHERE project_id = 300000;
+DELETE FROM projects WHERE id = 300000;
+DELETE FROM users_roles WHERE user_id BETWEEN 300000 AND 301999;
+DELETE FROM users WHERE id BETWEEN 300000 AND 301999;
@@ -0,0 +1,3 @@
+UPDATE projects
+SET description = 'description1', is_deleted = FALSE
+WHERE id = 1;
@@ -0,0 +1,10 @@
+DELETE FROM task_system_bot_chats WHERE id >= 100000;
+DELETE FROM labels WHERE id >= 100000;
+DELETE FROM attachments WHERE id >= 100000;
+DELETE FROM comments WHERE id >= 100000;
+DELETE FROM tasks WHERE id >= 100000;
+DELETE FROM projects_administrators WHERE project_id >= 100000;
+DELETE FROM projects_users WHERE project_id >= 100000;
+DELETE FROM projects WHERE id >= 100000;
+DELETE FROM users_roles WHERE user_id >= 100000;
+DELETE FROM users WHERE id >= 100000;
@@ -0,0 +1,45 @@
+INSERT INTO users (id, username, email, password, first_name, last_name, is_deleted)
+SELECT g, 'plan_user' || g, 'plan_user' || g || '@example.com', 'password', 'First', 'Last', false
+FROM generate_series(100000, 109999) AS g;
+
+INSERT INTO users_roles (user_id, role_id)
+SELECT g, 1
+FROM generate_series(100000, 109999) AS g;
+
+INSERT INTO projects
+(id, name, description, main_user_id, start_date, end_date, status, is_deleted)
+SELECT g, 'plan_project' || g, 'description', 100000 + (g % 10000),
+       '2025-06-06', '2025-07-07', 'INITIATED', g % 10 = 0
+FROM generate_series(100000, 100999) AS g;
+
+INSERT INTO projects_users (project_id, user_id)
+SELECT 100000 + (g % 1000), 100000 + (g / 5)
+FROM generate_series(0, 49999) AS g;
+
+INSERT INTO projects_administrators (project_id, user_id)
+SELECT 100000 + (g % 1000), 100000 + (g % 10000)
+FROM generate_series(0, 4999) AS g;
+
+INSERT INTO tasks
+(id, name, description, priority, status, due_date, project_id, assignee_id, is_deleted)
+SELECT g, 'task' || g, 'description', 'LOW', 'NOT_STARTED', DATE '2025-06-06' + (g % 30),
+       100000 + (g % 1000), 100000 + (g % 10000), g % 20 = 0
+FROM generate_series(100000, 199999) AS g;
+
+INSERT INTO comments (id, task_id, user_id, text, timestamp, is_deleted)
+SELECT g, 100000 + (g % 100000), 100000 + (g % 10000), 'comment', now(), g % 20 = 0
+FROM generate_series(100000, 199999) AS g;
+
+INSERT INTO attachments (id, task_id, storage_key, filename, upload_date)
+SELECT g, 100000 + (g % 100000), 'plan_file' || g, 'file' || g || '.txt', now()
+FROM generate_series(100000, 149999) AS g;
+
+INSERT INTO labels (id, name, color, project_id, is_deleted)
+SELECT g, 'label' || g, 'RED', 100000 + (g % 1000), false
+FROM generate_series(100000, 109999) AS g;
+
+INSERT INTO task_system_bot_chats (id, chat_id, user_id, is_deleted)
+SELECT g, g, g, false
+FROM generate_series(100000, 109999) AS g;
+
+ANALYZE;